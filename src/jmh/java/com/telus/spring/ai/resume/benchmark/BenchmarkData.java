@@ -0,0 +1,129 @@
+package com.telus.spring.ai.resume.benchmark;
+
+import java.util.Random;
+
+import org.slf4j.LoggerFactory;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+
+/**
+ * Deterministic inputs for the benchmarks, so runs on different machines and days
+ * measure the same work.
+ */
+public final class BenchmarkData {
+
+    private static final long SEED = 42;
+
+    private static final String[] SKILLS = {
+        "Java", "Spring Boot", "Kubernetes", "PostgreSQL", "Kafka", "React", "AWS", "Terraform",
+        "Python", "Microservices", "CI/CD", "Docker", "GraphQL", "Redis", "Observability"
+    };
+
+    private BenchmarkData() {
+    }
+
+    /**
+     * Keep the code under test from logging at the logback default (DEBUG to the console),
+     * which would dominate the measurements.
+     */
+    public static void quietLogging() {
+        ((Logger) LoggerFactory.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME)).setLevel(Level.WARN);
+    }
+
+    /**
+     * @param dimensions The embedding dimensions
+     * @return A pseudo-random unit-range embedding
+     */
+    public static float[] embedding(int dimensions) {
+        Random random = new Random(SEED);
+        float[] embedding = new float[dimensions];
+        for (int i = 0; i < dimensions; i++) {
+            embedding[i] = random.nextFloat() * 2 - 1;
+        }
+        return embedding;
+    }
+
+    /**
+     * @return Metadata JSON as stored in resume_vector_store
+     */
+    public static String metadataJson() {
+        return "{\"type\":\"resume\",\"name\":\"Jordan Avery\",\"email\":\"jordan.avery@example.com\","
+                + "\"phoneNumber\":\"+1 604 555 0142\",\"fileType\":\"pdf\","
+                + "\"originalFileName\":\"jordan-avery-resume.pdf\",\"uploadedAt\":\"2024-05-14T09:30:00\"}";
+    }
+
+    /**
+     * A resume of roughly the given length, with the contact block labelled or not.
+     * Unlabelled contact details make the regex fallback try every pattern.
+     *
+     * @param characters The approximate length
+     * @param labelled Whether the contact details carry Name/Email/Phone labels
+     * @return The resume text, including stray control characters and runs of whitespace
+     */
+    public static String resumeText(int characters, boolean labelled) {
+        Random random = new Random(SEED);
+        StringBuilder text = new StringBuilder(characters + 256);
+        if (labelled) {
+            text.append("Name: Jordan Avery\nEmail: jordan.avery@example.com\nPhone: +1 604 555 0142\n\n");
+        } else {
+            text.append("jordan avery\u0007\njordan.avery@example.com\n604 555 0142\n\n\n\n");
+        }
+        int paragraph = 0;
+        while (text.length() < characters) {
+            text.append("EXPERIENCE ").append(++paragraph).append("  Senior Engineer\n");
+            for (int i = 0; i < 6; i++) {
+                text.append("•  Built ").append(SKILLS[random.nextInt(SKILLS.length)])
+                    .append(" services   handling ").append(1000 + random.nextInt(90000))
+                    .append(" requests per second with ").append(SKILLS[random.nextInt(SKILLS.length)])
+                    .append(".\n");
+            }
+            text.append("\n \n\t\n");
+        }
+        return text.toString();
+    }
+
+    /**
+     * @return An AI explanation in the format requested by the resume-match prompt
+     */
+    public static String explanation() {
+        return """
+                # Candidate Analysis
+
+                ## EXECUTIVE SUMMARY
+                The candidate has eight years of backend experience with Java and Spring Boot. \
+                Their cloud experience matches the role. Leadership evidence is limited.
+
+                ## MATCH SCORE: 78/100
+
+                ## KEY STRENGTHS
+                • Spring Boot microservices - led the migration of twelve services
+                • PostgreSQL - tuned queries serving 40k requests per second
+                • Kubernetes - operated multi-region clusters
+                • Kafka - designed event-driven order processing
+                • Observability - introduced tracing across services
+
+                ## IMPROVEMENT AREAS
+                • Frontend - little React experience
+                • Management - no direct reports yet
+
+                ## DETAILED CATEGORY SCORES
+                • Technical Skills: 26/30
+                • Experience: 20/25
+                • Education & Certifications: 11/15
+                • Soft Skills & Cultural Fit: 11/15
+                • Achievements & Impact: 10/15
+
+                ## HIRING RECOMMENDATION
+                Strong Match - the core platform skills are all present.
+                """;
+    }
+
+    /**
+     * @return An explanation without the MATCH SCORE label, so score extraction falls
+     *         through to its later patterns
+     */
+    public static String unlabelledExplanation() {
+        return explanation().replace("## MATCH SCORE: 78/100", "Overall the candidate rates 78 out of 100");
+    }
+}
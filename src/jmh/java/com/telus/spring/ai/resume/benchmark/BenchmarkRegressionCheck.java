@@ -0,0 +1,98 @@
+package com.telus.spring.ai.resume.benchmark;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Compares a JMH JSON result file against a recorded baseline and fails when any
+ * benchmark got slower than the tolerance allows.
+ *
+ * Usage: BenchmarkRegressionCheck &lt;baseline.json&gt; &lt;results.json&gt; &lt;tolerance&gt;
+ * where tolerance is a fraction, e.g. 0.10 for 10%. A missing baseline fails the check,
+ * so a misplaced file cannot pass silently, unless -Djmh.allowNoBaseline is set.
+ */
+public final class BenchmarkRegressionCheck {
+
+    private BenchmarkRegressionCheck() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 3) {
+            throw new IllegalArgumentException("Usage: BenchmarkRegressionCheck <baseline.json> <results.json> <tolerance>");
+        }
+        File baselineFile = new File(args[0]);
+        File resultsFile = new File(args[1]);
+        double tolerance = Double.parseDouble(args[2]);
+
+        if (!baselineFile.isFile()) {
+            String message = "No benchmark baseline at " + baselineFile + ". Copy " + resultsFile
+                    + " there to record one";
+            // Set without a value (-Djmh.allowNoBaseline) counts as true
+            String allowNoBaseline = System.getProperty("jmh.allowNoBaseline");
+            if (allowNoBaseline == null || allowNoBaseline.equalsIgnoreCase("false")) {
+                throw new IllegalStateException(message + ", or pass -Djmh.allowNoBaseline to skip the check.");
+            }
+            System.out.println(message + ". Skipping the regression check (jmh.allowNoBaseline is set).");
+            return;
+        }
+
+        ObjectMapper objectMapper = new ObjectMapper();
+        Map<String, Score> baseline = readScores(objectMapper.readTree(baselineFile));
+        Map<String, Score> results = readScores(objectMapper.readTree(resultsFile));
+
+        List<String> regressions = new ArrayList<>();
+        System.out.printf("%-90s %14s %14s %9s%n", "Benchmark", "Baseline", "Current", "Change");
+        for (Map.Entry<String, Score> entry : results.entrySet()) {
+            Score current = entry.getValue();
+            Score previous = baseline.get(entry.getKey());
+            if (previous == null) {
+                System.out.printf("%-90s %14s %14.3f %9s%n", entry.getKey(), "-", current.value(), "new");
+                continue;
+            }
+            // Positive change is always worse: higher time, or lower throughput
+            double change = current.higherIsBetter()
+                    ? (previous.value() - current.value()) / previous.value()
+                    : (current.value() - previous.value()) / previous.value();
+            System.out.printf("%-90s %14.3f %14.3f %+8.1f%%%n",
+                    entry.getKey(), previous.value(), current.value(), change * 100);
+            if (change > tolerance) {
+                regressions.add(String.format("%s: %.3f -> %.3f %s (%+.1f%%)",
+                        entry.getKey(), previous.value(), current.value(), current.unit(), change * 100));
+            }
+        }
+
+        if (!regressions.isEmpty()) {
+            throw new IllegalStateException("Benchmarks regressed by more than " + Math.round(tolerance * 100)
+                    + "% against " + baselineFile + ":\n  " + String.join("\n  ", regressions));
+        }
+        System.out.println("No benchmark regressed by more than " + Math.round(tolerance * 100) + "%");
+    }
+
+    /**
+     * Key each result by benchmark name, mode and parameters, so parameterized runs are
+     * compared with their own baseline.
+     */
+    private static Map<String, Score> readScores(JsonNode root) {
+        Map<String, Score> scores = new LinkedHashMap<>();
+        for (JsonNode result : root) {
+            StringBuilder key = new StringBuilder(result.path("benchmark").asText())
+                    .append(" [").append(result.path("mode").asText()).append(']');
+            result.path("params").fields().forEachRemaining(param ->
+                    key.append(' ').append(param.getKey()).append('=').append(param.getValue().asText()));
+            JsonNode metric = result.path("primaryMetric");
+            scores.put(key.toString(), new Score(metric.path("score").asDouble(),
+                    metric.path("scoreUnit").asText(), result.path("mode").asText().equals("thrpt")));
+        }
+        return scores;
+    }
+
+    private record Score(double value, String unit, boolean higherIsBetter) {
+    }
+}
@@ -0,0 +1,67 @@
+package com.telus.spring.ai.resume.config;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.ai.document.Document;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.telus.spring.ai.resume.benchmark.BenchmarkData;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
+
+/**
+ * Conversions done for every vector store write and search result:
+ * embedding to pgvector literal, and result row to Document (metadata JSON parsing).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class VectorStoreConversionBenchmark {
+
+    @Param({"1536"})
+    private int dimensions;
+
+    private float[] embedding;
+    private Map<String, Object> row;
+    private ResumeVectorStoreConfig.ResumeVectorStore store;
+
+    @Setup
+    public void setUp() {
+        BenchmarkData.quietLogging();
+        embedding = BenchmarkData.embedding(dimensions);
+        row = Map.of(
+                "resume_id", UUID.nameUUIDFromBytes("resume".getBytes()),
+                "metadata", BenchmarkData.metadataJson(),
+                "distance", 0.23);
+        // Only the ObjectMapper is used by the conversions
+        store = new ResumeVectorStoreConfig.ResumeVectorStore(null, null, new ObjectMapper(),
+                new SimpleMeterRegistry(), ObservationRegistry.NOOP, 50, 60, 32);
+    }
+
+    @Benchmark
+    public String convertToVectorString() {
+        return ResumeVectorStoreConfig.ResumeVectorStore.convertToVectorString(embedding);
+    }
+
+    @Benchmark
+    public Document toDocument() {
+        return store.toDocument(row);
+    }
+}
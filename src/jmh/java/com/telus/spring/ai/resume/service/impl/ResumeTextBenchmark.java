@@ -0,0 +1,116 @@
+package com.telus.spring.ai.resume.service.impl;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.PDPageContentStream;
+import org.apache.pdfbox.pdmodel.font.PDType1Font;
+import org.apache.poi.xwpf.usermodel.XWPFDocument;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.telus.spring.ai.resume.benchmark.BenchmarkData;
+
+/**
+ * Resume ingestion work done before the AI call: text extraction from PDF and DOCX,
+ * text cleanup, and the regex fallback for contact details.
+ * The documents are generated in setup from the same text, so no binary fixtures are needed.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class ResumeTextBenchmark {
+
+    private static final int LINES_PER_PAGE = 50;
+
+    @Param({"4000", "20000"})
+    private int characters;
+
+    @Param({"labelled", "unlabelled"})
+    private String contact;
+
+    private String resumeText;
+    private byte[] pdf;
+    private byte[] docx;
+
+    @Setup
+    public void setUp() throws IOException {
+        BenchmarkData.quietLogging();
+        resumeText = BenchmarkData.resumeText(characters, contact.equals("labelled"));
+        List<String> lines = resumeText.lines()
+                .map(line -> line.replaceAll("[\\p{Cntrl}]", " "))
+                .toList();
+        pdf = toPdf(lines);
+        docx = toDocx(lines);
+    }
+
+    @Benchmark
+    public String extractTextFromPdf() throws IOException {
+        return ResumeParserServiceImpl.extractTextFromPdf(new ByteArrayInputStream(pdf));
+    }
+
+    @Benchmark
+    public String extractTextFromDocx() throws IOException {
+        return ResumeParserServiceImpl.extractTextFromDocx(new ByteArrayInputStream(docx));
+    }
+
+    @Benchmark
+    public String cleanResumeText() {
+        return ResumeParserServiceImpl.cleanResumeText(resumeText);
+    }
+
+    @Benchmark
+    public Map<String, String> extractWithPatterns() {
+        return ResumeParserServiceImpl.extractWithPatterns(resumeText);
+    }
+
+    private static byte[] toPdf(List<String> lines) throws IOException {
+        try (PDDocument document = new PDDocument(); ByteArrayOutputStream out = new ByteArrayOutputStream()) {
+            for (int start = 0; start < lines.size(); start += LINES_PER_PAGE) {
+                PDPage page = new PDPage();
+                document.addPage(page);
+                try (PDPageContentStream content = new PDPageContentStream(document, page)) {
+                    content.beginText();
+                    content.setFont(PDType1Font.HELVETICA, 10);
+                    content.setLeading(14);
+                    content.newLineAtOffset(50, 750);
+                    for (String line : lines.subList(start, Math.min(start + LINES_PER_PAGE, lines.size()))) {
+                        content.showText(line);
+                        content.newLine();
+                    }
+                    content.endText();
+                }
+            }
+            document.save(out);
+            return out.toByteArray();
+        }
+    }
+
+    private static byte[] toDocx(List<String> lines) throws IOException {
+        try (XWPFDocument document = new XWPFDocument(); ByteArrayOutputStream out = new ByteArrayOutputStream()) {
+            for (String line : lines) {
+                document.createParagraph().createRun().setText(line);
+            }
+            document.write(out);
+            return out.toByteArray();
+        }
+    }
+}
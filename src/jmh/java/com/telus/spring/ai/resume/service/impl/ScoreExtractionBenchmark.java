@@ -0,0 +1,46 @@
+package com.telus.spring.ai.resume.service.impl;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.telus.spring.ai.resume.benchmark.BenchmarkData;
+
+/**
+ * Score extraction from AI explanations, run once per scored candidate.
+ * The unlabelled format exercises the regex fallbacks.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class ScoreExtractionBenchmark {
+
+    @Param({"labelled", "unlabelled"})
+    private String format;
+
+    private String explanation;
+
+    @Setup
+    public void setUp() {
+        BenchmarkData.quietLogging();
+        explanation = format.equals("labelled") ? BenchmarkData.explanation() : BenchmarkData.unlabelledExplanation();
+    }
+
+    @Benchmark
+    public int extractScoreFromExplanation() {
+        return ResumeMatchingServiceImpl.extractScoreFromExplanation(explanation);
+    }
+}
@@ -0,0 +1,42 @@
+package com.telus.spring.ai.resume.ui;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.telus.spring.ai.resume.benchmark.BenchmarkData;
+
+/**
+ * Splitting of AI explanations into sections, run for every match card rendered.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class ExplanationSectionsBenchmark {
+
+    private String explanation;
+
+    @Setup
+    public void setUp() {
+        BenchmarkData.quietLogging();
+        explanation = BenchmarkData.explanation();
+    }
+
+    @Benchmark
+    public List<MatchView.Section> splitSections() {
+        return MatchView.splitSections(explanation);
+    }
+}
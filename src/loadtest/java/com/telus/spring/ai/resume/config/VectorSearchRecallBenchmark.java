@@ -0,0 +1,557 @@
+package com.telus.spring.ai.resume.config;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import org.springframework.ai.document.Document;
+import org.springframework.ai.embedding.Embedding;
+import org.springframework.ai.embedding.EmbeddingModel;
+import org.springframework.ai.embedding.EmbeddingRequest;
+import org.springframework.ai.embedding.EmbeddingResponse;
+import org.springframework.ai.vectorstore.SearchRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.telus.spring.ai.resume.config.ResumeVectorStoreConfig.ResumeVectorStore;
+import com.telus.spring.ai.resume.loadtest.LatencyRecorder;
+import com.telus.spring.ai.resume.loadtest.Options;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
+
+/**
+ * Recall and latency of ResumeVectorStore.similaritySearch across approximate index
+ * configurations, for tuning HNSW and IVFFlat parameters against the exact ranking.
+ *
+ * Loads a synthetic (clustered) or exported embedding set into resume_vector_store, computes
+ * the exact top-k of every query with a sequential scan, then for each index configuration
+ * builds the index and runs the queries through similaritySearch at each ef_search or probes
+ * setting. The result is printed as a Markdown table.
+ *
+ * Options:
+ * --url, --user, --password (default the local pgvector of compose.yaml);
+ * --source synthetic or file (default synthetic);
+ * --rows (default 10000) and, for synthetic data, --clusters (default 100), --spread (default 0.6)
+ * and --seed (default 42);
+ * --vectors, for file data: one pgvector literal per line, e.g. exported with
+ * \copy (SELECT embedding FROM resume_vector_store) TO 'embeddings.txt'; the first --queries
+ * lines are held out as queries;
+ * --queries (default 100), --k (default 10), --repeat timed runs per query (default 3);
+ * --indexes configurations separated by ';' (default none;hnsw:m=16,ef_construction=64;ivfflat),
+ * ivfflat without lists uses rows / 1000;
+ * --ef-search (default 10,20,40,80,160) and --probes (default 1,2,5,10,20);
+ * --maintenance-work-mem for index builds (default 512MB);
+ * --keep-data to leave the loaded rows in place, --reuse-data to search rows kept by an earlier run.
+ */
+public final class VectorSearchRecallBenchmark {
+
+    private static final String INDEX_NAME = "resume_vector_store_ann_benchmark_idx";
+    private static final String BENCHMARK_FILE_TYPE = "bench";
+    private static final int DIMENSIONS = 1536;
+    private static final int BATCH_SIZE = 500;
+    private static final Pattern MEMORY = Pattern.compile("\\d+(kB|MB|GB)");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ResumeVectorStore store;
+    private final List<float[]> queries;
+    private final int k;
+    private final int repeat;
+
+    private VectorSearchRecallBenchmark(JdbcTemplate jdbcTemplate, List<float[]> queries, int k, int repeat) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.queries = queries;
+        this.k = k;
+        this.repeat = repeat;
+        this.store = new ResumeVectorStore(jdbcTemplate, new QueryEmbeddings(queries), new ObjectMapper(),
+                new SimpleMeterRegistry(), ObservationRegistry.NOOP, 50, 60, 32);
+    }
+
+    /**
+     * One approximate index to build, or none for the exact sequential scan.
+     */
+    record IndexSpec(String type, Map<String, Integer> parameters) {
+
+        static IndexSpec parse(String spec) {
+            String[] parts = spec.trim().split(":", 2);
+            String type = parts[0];
+            Set<String> allowed = switch (type) {
+                case "none" -> Set.of();
+                case "hnsw" -> Set.of("m", "ef_construction");
+                case "ivfflat" -> Set.of("lists");
+                default -> throw new IllegalArgumentException("Unknown index type, expected none, hnsw or ivfflat: " + spec);
+            };
+            Map<String, Integer> parameters = new LinkedHashMap<>();
+            if (parts.length > 1) {
+                for (String parameter : parts[1].split(",")) {
+                    String[] nameValue = parameter.split("=");
+                    if (nameValue.length != 2 || !allowed.contains(nameValue[0])) {
+                        throw new IllegalArgumentException("Unsupported parameter for " + type + ": " + parameter);
+                    }
+                    parameters.put(nameValue[0], Integer.parseInt(nameValue[1]));
+                }
+            }
+            return new IndexSpec(type, parameters);
+        }
+
+        IndexSpec with(String name, int value) {
+            Map<String, Integer> with = new LinkedHashMap<>(parameters);
+            with.put(name, value);
+            return new IndexSpec(type, with);
+        }
+
+        String label() {
+            if (type.equals("none")) {
+                return "none (exact)";
+            }
+            StringBuilder label = new StringBuilder(type);
+            parameters.forEach((name, value) -> label.append(' ').append(name).append('=').append(value));
+            return label.toString();
+        }
+
+        String createSql() {
+            StringBuilder sql = new StringBuilder("CREATE INDEX " + INDEX_NAME + " ON resume_vector_store USING ")
+                    .append(type).append(" (embedding vector_cosine_ops)");
+            if (!parameters.isEmpty()) {
+                List<String> with = new ArrayList<>();
+                parameters.forEach((name, value) -> with.add(name + " = " + value));
+                sql.append(" WITH (").append(String.join(", ", with)).append(')');
+            }
+            return sql.toString();
+        }
+
+        /**
+         * @return The session setting trading recall for latency at query time, or null
+         */
+        String searchSetting() {
+            return switch (type) {
+                case "hnsw" -> "hnsw.ef_search";
+                case "ivfflat" -> "ivfflat.probes";
+                default -> null;
+            };
+        }
+    }
+
+    record Result(String index, String buildSeconds, String setting, String plan,
+            double recall, double meanMillis, double p50Millis, double p99Millis) {
+    }
+
+    public static void main(String[] args) throws IOException {
+        Options options = Options.parse(args);
+        int k = options.intValue("k", 10);
+        int queryCount = options.intValue("queries", 100);
+        int rows = options.intValue("rows", 10000);
+        String maintenanceWorkMem = options.string("maintenance-work-mem", "512MB");
+        if (!MEMORY.matcher(maintenanceWorkMem).matches()) {
+            throw new IllegalArgumentException("Expected --maintenance-work-mem like 512MB: " + maintenanceWorkMem);
+        }
+
+        VectorSet vectors = switch (options.string("source", "synthetic")) {
+            case "synthetic" -> VectorSet.synthetic(rows, queryCount, options.intValue("clusters", 100),
+                    options.doubleValue("spread", 0.6), options.longValue("seed", 42));
+            case "file" -> VectorSet.fromFile(Path.of(options.string("vectors", "embeddings.txt")), queryCount,
+                    options.has("rows") ? rows : Integer.MAX_VALUE);
+            default -> throw new IllegalArgumentException("Unknown --source, expected synthetic or file");
+        };
+
+        // A single connection, so the planner and index settings below apply to every query
+        SingleConnectionDataSource dataSource = new SingleConnectionDataSource(
+                options.string("url", "jdbc:postgresql://localhost:5432/postgres"),
+                options.string("user", "shaikhjalil"),
+                options.string("password", "8899"),
+                true);
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        VectorSearchRecallBenchmark benchmark = new VectorSearchRecallBenchmark(
+                jdbcTemplate, vectors.queries(), k, options.intValue("repeat", 3));
+
+        try {
+            jdbcTemplate.execute("DROP INDEX IF EXISTS " + INDEX_NAME);
+            int loaded;
+            if (options.has("reuse-data")) {
+                loaded = benchmark.countBenchmarkRows();
+                System.out.printf("Reusing %d rows loaded by an earlier run%n", loaded);
+            } else {
+                jdbcTemplate.update("DELETE FROM resumes WHERE file_type = ?", BENCHMARK_FILE_TYPE);
+                loaded = benchmark.load(vectors);
+            }
+            jdbcTemplate.execute("ANALYZE resume_vector_store");
+            int total = jdbcTemplate.queryForObject("SELECT count(*) FROM resume_vector_store", Integer.class);
+            benchmark.warnAboutOtherIndexes();
+
+            System.out.println("Computing the exact top-" + k + " of " + queryCount + " queries");
+            List<Set<String>> exact = benchmark.exactTopK();
+
+            jdbcTemplate.execute("SET maintenance_work_mem = '" + maintenanceWorkMem + "'");
+            List<Result> results = new ArrayList<>();
+            for (String spec : options.string("indexes", "none;hnsw:m=16,ef_construction=64;ivfflat").split(";")) {
+                IndexSpec index = IndexSpec.parse(spec);
+                if (index.type().equals("ivfflat") && !index.parameters().containsKey("lists")) {
+                    index = index.with("lists", Math.max(1, total / 1000));
+                }
+                List<Integer> settings = switch (index.type()) {
+                    case "hnsw" -> parseIntegers(options.string("ef-search", "10,20,40,80,160"));
+                    case "ivfflat" -> parseIntegers(options.string("probes", "1,2,5,10,20"));
+                    default -> Collections.singletonList(null);
+                };
+                results.addAll(benchmark.run(index, settings, exact));
+            }
+
+            System.out.println();
+            System.out.printf("Data set: %s, %d benchmark rows of %d in resume_vector_store, %d queries, k=%d, pgvector %s%n%n",
+                    vectors.description(), loaded, total, queryCount, k, benchmark.pgvectorVersion());
+            printTable(results, k);
+        } finally {
+            jdbcTemplate.execute("DROP INDEX IF EXISTS " + INDEX_NAME);
+            if (!options.has("keep-data")) {
+                jdbcTemplate.update("DELETE FROM resumes WHERE file_type = ?", BENCHMARK_FILE_TYPE);
+            }
+            dataSource.destroy();
+        }
+    }
+
+    /**
+     * Insert the vectors, each with a placeholder resume row for the foreign key.
+     * The placeholder resumes are marked with their own file type so they can be removed.
+     */
+    private int load(VectorSet vectors) {
+        List<Object[]> resumes = new ArrayList<>(BATCH_SIZE);
+        List<Object[]> entries = new ArrayList<>(BATCH_SIZE);
+        int[] loaded = {0};
+        long started = System.nanoTime();
+        vectors.forEachRow(vector -> {
+            int n = loaded[0]++;
+            UUID resumeId = UUID.randomUUID();
+            resumes.add(new Object[] {resumeId, "ANN Benchmark " + n, "ann-" + n + "@benchmark.invalid", String.valueOf(n)});
+            entries.add(new Object[] {UUID.randomUUID(), resumeId, ResumeVectorStore.convertToVectorString(vector)});
+            if (resumes.size() == BATCH_SIZE) {
+                insert(resumes, entries);
+                System.out.printf("Loaded %d rows%n", loaded[0]);
+            }
+        });
+        insert(resumes, entries);
+        System.out.printf("Loaded %d rows in %.1f s%n", loaded[0], (System.nanoTime() - started) / 1e9);
+        return loaded[0];
+    }
+
+    private void insert(List<Object[]> resumes, List<Object[]> entries) {
+        if (resumes.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(
+            "INSERT INTO resumes (id, name, email, phone_number, uploaded_at, updated_at, file_type, original_file_name) " +
+            "VALUES (?, ?, ?, ?, now(), now(), '" + BENCHMARK_FILE_TYPE + "', 'ann-benchmark')",
+            resumes);
+        jdbcTemplate.batchUpdate(
+            "INSERT INTO resume_vector_store (id, resume_id, metadata, embedding) " +
+            "VALUES (?, ?, '{\"type\":\"resume\",\"benchmark\":true}'::json, ?::vector)",
+            entries);
+        resumes.clear();
+        entries.clear();
+    }
+
+    private int countBenchmarkRows() {
+        return jdbcTemplate.queryForObject(
+            "SELECT count(*) FROM resume_vector_store v JOIN resumes r ON r.id = v.resume_id WHERE r.file_type = ?",
+            Integer.class, BENCHMARK_FILE_TYPE);
+    }
+
+    /**
+     * Another approximate index on the table would be used by the "none" run and make the
+     * ground truth approximate as well.
+     */
+    private void warnAboutOtherIndexes() {
+        List<String> others = jdbcTemplate.queryForList(
+            "SELECT indexname FROM pg_indexes WHERE tablename = 'resume_vector_store' " +
+            "AND (indexdef ILIKE '%hnsw%' OR indexdef ILIKE '%ivfflat%') AND indexname <> ?",
+            String.class, INDEX_NAME);
+        if (!others.isEmpty()) {
+            System.out.println("WARNING: resume_vector_store has other approximate indexes " + others
+                    + "; drop them for meaningful results");
+        }
+    }
+
+    /**
+     * The exact nearest neighbours of each query, by a sequential scan of the whole table.
+     */
+    private List<Set<String>> exactTopK() {
+        jdbcTemplate.execute("SET enable_indexscan = off");
+        try {
+            List<Set<String>> exact = new ArrayList<>(queries.size());
+            for (float[] query : queries) {
+                exact.add(new HashSet<>(jdbcTemplate.queryForList(
+                    "SELECT resume_id::text FROM resume_vector_store ORDER BY embedding <=> ?::vector LIMIT ?",
+                    String.class, ResumeVectorStore.convertToVectorString(query), k)));
+            }
+            return exact;
+        } finally {
+            jdbcTemplate.execute("RESET enable_indexscan");
+        }
+    }
+
+    /**
+     * Build the index and measure recall and latency of similaritySearch at each setting.
+     */
+    private List<Result> run(IndexSpec index, List<Integer> settings, List<Set<String>> exact) {
+        String buildSeconds = "-";
+        if (!index.type().equals("none")) {
+            System.out.println("Building " + index.label());
+            long started = System.nanoTime();
+            jdbcTemplate.execute(index.createSql());
+            buildSeconds = String.format("%.1f", (System.nanoTime() - started) / 1e9);
+        }
+
+        List<Result> results = new ArrayList<>();
+        try {
+            for (Integer setting : settings) {
+                String settingLabel = "-";
+                if (setting != null) {
+                    jdbcTemplate.execute("SET " + index.searchSetting() + " = " + setting);
+                    settingLabel = index.searchSetting() + "=" + setting;
+                }
+                System.out.println("Searching with " + index.label() + (setting != null ? ", " + settingLabel : ""));
+                results.add(measure(index.label(), buildSeconds, settingLabel, exact));
+            }
+        } finally {
+            if (index.searchSetting() != null) {
+                jdbcTemplate.execute("RESET " + index.searchSetting());
+            }
+            jdbcTemplate.execute("DROP INDEX IF EXISTS " + INDEX_NAME);
+        }
+        return results;
+    }
+
+    private Result measure(String index, String buildSeconds, String setting, List<Set<String>> exact) {
+        // Warm the index and table pages into the buffer cache before timing
+        for (int i = 0; i < queries.size(); i++) {
+            store.similaritySearch(request(i));
+        }
+
+        LatencyRecorder latencies = new LatencyRecorder();
+        double recall = 0;
+        for (int run = 0; run < repeat; run++) {
+            for (int i = 0; i < queries.size(); i++) {
+                long started = System.nanoTime();
+                List<Document> documents = store.similaritySearch(request(i));
+                latencies.record(System.nanoTime() - started);
+                if (run == 0) {
+                    Set<String> expected = exact.get(i);
+                    long found = documents.stream()
+                            .filter(document -> expected.contains(String.valueOf(document.getMetadata().get("resumeId"))))
+                            .count();
+                    recall += (double) found / k;
+                }
+            }
+        }
+        return new Result(index, buildSeconds, setting, plan(), recall / queries.size(),
+                latencies.meanMillis(), latencies.percentileMillis(50), latencies.percentileMillis(99));
+    }
+
+    private SearchRequest request(int query) {
+        return SearchRequest.query(QueryEmbeddings.text(query)).withTopK(k);
+    }
+
+    /**
+     * Whether the planner used the benchmark index; on small tables it may prefer a sequential scan.
+     */
+    private String plan() {
+        List<String> plan = jdbcTemplate.queryForList(
+            "EXPLAIN SELECT id FROM resume_vector_store ORDER BY embedding <=> ?::vector LIMIT ?",
+            String.class, ResumeVectorStore.convertToVectorString(queries.get(0)), k);
+        return String.join("\n", plan).contains(INDEX_NAME) ? "index scan" : "seq scan";
+    }
+
+    private String pgvectorVersion() {
+        List<String> version = jdbcTemplate.queryForList(
+            "SELECT extversion FROM pg_extension WHERE extname = 'vector'", String.class);
+        return version.isEmpty() ? "unknown" : version.get(0);
+    }
+
+    private static List<Integer> parseIntegers(String values) {
+        return Stream.of(values.split(",")).map(String::trim).map(Integer::valueOf).toList();
+    }
+
+    private static void printTable(List<Result> results, int k) {
+        System.out.printf("| Index | Build (s) | Setting | Plan | Recall@%d | Mean (ms) | p50 (ms) | p99 (ms) |%n", k);
+        System.out.println("|---|---:|---|---|---:|---:|---:|---:|");
+        for (Result result : results) {
+            System.out.printf("| %s | %s | %s | %s | %.3f | %.2f | %.2f | %.2f |%n",
+                    result.index(), result.buildSeconds(), result.setting(), result.plan(),
+                    result.recall(), result.meanMillis(), result.p50Millis(), result.p99Millis());
+        }
+    }
+
+    /**
+     * Embedding model answering the benchmark query texts with their prepared vectors, so
+     * similaritySearch runs unchanged without an embedding endpoint.
+     */
+    private static final class QueryEmbeddings implements EmbeddingModel {
+
+        private final List<float[]> queries;
+
+        QueryEmbeddings(List<float[]> queries) {
+            this.queries = queries;
+        }
+
+        static String text(int query) {
+            return "ann-benchmark-query-" + query;
+        }
+
+        @Override
+        public EmbeddingResponse call(EmbeddingRequest request) {
+            List<Embedding> embeddings = new ArrayList<>();
+            for (String text : request.getInstructions()) {
+                embeddings.add(new Embedding(embed(text), embeddings.size()));
+            }
+            return new EmbeddingResponse(embeddings);
+        }
+
+        @Override
+        public float[] embed(String text) {
+            return queries.get(Integer.parseInt(text.substring(text.lastIndexOf('-') + 1)));
+        }
+
+        @Override
+        public float[] embed(Document document) {
+            throw new UnsupportedOperationException("Only benchmark queries are embedded");
+        }
+    }
+
+    /**
+     * The vectors to load and the queries to search with.
+     */
+    interface VectorSet {
+
+        List<float[]> queries();
+
+        void forEachRow(Consumer<float[]> consumer);
+
+        String description();
+
+        /**
+         * Unit vectors scattered around random cluster centres, closer to real text
+         * embeddings than uniformly random vectors. Rows are generated on the fly from
+         * their index, so large sets are never held in memory.
+         *
+         * @param spread The noise added to a centre, relative to its length
+         */
+        static VectorSet synthetic(int rows, int queryCount, int clusters, double spread, long seed) {
+            Random centreRandom = new Random(seed);
+            float[][] centres = new float[clusters][];
+            for (int c = 0; c < clusters; c++) {
+                centres[c] = gaussian(centreRandom, null, 0);
+            }
+            List<float[]> queries = new ArrayList<>(queryCount);
+            for (int q = 0; q < queryCount; q++) {
+                Random random = new Random(seed ^ (0x9E3779B97F4A7C15L + q));
+                queries.add(gaussian(random, centres[random.nextInt(clusters)], spread));
+            }
+            return new VectorSet() {
+                @Override
+                public List<float[]> queries() {
+                    return queries;
+                }
+
+                @Override
+                public void forEachRow(Consumer<float[]> consumer) {
+                    for (int row = 0; row < rows; row++) {
+                        Random random = new Random(seed * 31 + row);
+                        consumer.accept(gaussian(random, centres[random.nextInt(clusters)], spread));
+                    }
+                }
+
+                @Override
+                public String description() {
+                    return String.format("synthetic (%d clusters, spread %.2f, seed %d)", clusters, spread, seed);
+                }
+            };
+        }
+
+        /**
+         * Vectors exported from resume_vector_store, one pgvector literal per line.
+         * The first queryCount vectors are held out as queries.
+         */
+        static VectorSet fromFile(Path file, int queryCount, int maxRows) throws IOException {
+            List<float[]> queries = new ArrayList<>(queryCount);
+            try (BufferedReader reader = Files.newBufferedReader(file)) {
+                String line;
+                while (queries.size() < queryCount && (line = reader.readLine()) != null) {
+                    if (!line.isBlank()) {
+                        queries.add(parse(line));
+                    }
+                }
+            }
+            if (queries.size() < queryCount) {
+                throw new IllegalArgumentException(file + " has fewer than " + queryCount + " vectors");
+            }
+            return new VectorSet() {
+                @Override
+                public List<float[]> queries() {
+                    return queries;
+                }
+
+                @Override
+                public void forEachRow(Consumer<float[]> consumer) {
+                    try (Stream<String> lines = Files.lines(file)) {
+                        lines.filter(line -> !line.isBlank())
+                            .skip(queryCount)
+                            .limit(maxRows)
+                            .map(VectorSet::parse)
+                            .forEach(consumer);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                }
+
+                @Override
+                public String description() {
+                    return "exported from " + file.getFileName();
+                }
+            };
+        }
+
+        private static float[] parse(String literal) {
+            String[] values = literal.trim().replace("[", "").replace("]", "").split(",");
+            if (values.length != DIMENSIONS) {
+                throw new IllegalArgumentException("Expected " + DIMENSIONS + " dimensions, got " + values.length);
+            }
+            float[] vector = new float[DIMENSIONS];
+            for (int i = 0; i < DIMENSIONS; i++) {
+                vector[i] = Float.parseFloat(values[i]);
+            }
+            return vector;
+        }
+
+        /**
+         * A normalized Gaussian vector, or the centre plus Gaussian noise when given one.
+         */
+        private static float[] gaussian(Random random, float[] centre, double spread) {
+            float[] vector = new float[DIMENSIONS];
+            double noise = centre == null ? 1 : spread / Math.sqrt(DIMENSIONS);
+            double norm = 0;
+            for (int i = 0; i < DIMENSIONS; i++) {
+                vector[i] = (float) ((centre == null ? 0 : centre[i]) + random.nextGaussian() * noise);
+                norm += vector[i] * vector[i];
+            }
+            float scale = (float) (1 / Math.sqrt(norm));
+            for (int i = 0; i < DIMENSIONS; i++) {
+                vector[i] *= scale;
+            }
+            return vector;
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.telus.spring.ai.resume.loadtest;
+
+import java.util.Random;
+
+/**
+ * Artificial response latency of the stub AI server.
+ * Written as fixed:MILLIS, uniform:MIN-MAX or lognormal:MEDIAN:P99 (all in milliseconds);
+ * lognormal gives the long tail real model endpoints have.
+ */
+interface LatencyDistribution {
+
+    /** z-score of the 99th percentile of the standard normal distribution */
+    double Z_P99 = 2.3263;
+
+    /**
+     * @param random The random source
+     * @return The next latency in milliseconds
+     */
+    long sampleMillis(Random random);
+
+    static LatencyDistribution parse(String spec) {
+        String[] parts = spec.split(":");
+        switch (parts[0]) {
+            case "fixed": {
+                long millis = Long.parseLong(parts[1]);
+                return random -> millis;
+            }
+            case "uniform": {
+                String[] range = parts[1].split("-");
+                long min = Long.parseLong(range[0]);
+                long max = Long.parseLong(range[1]);
+                return random -> min + (long) (random.nextDouble() * (max - min));
+            }
+            case "lognormal": {
+                double median = Double.parseDouble(parts[1]);
+                double p99 = Double.parseDouble(parts[2]);
+                if (p99 < median) {
+                    throw new IllegalArgumentException("p99 must not be below the median: " + spec);
+                }
+                double sigma = Math.log(p99 / median) / Z_P99;
+                return random -> Math.round(median * Math.exp(sigma * random.nextGaussian()));
+            }
+            default:
+                throw new IllegalArgumentException(
+                        "Unknown latency distribution, expected fixed:MS, uniform:MIN-MAX or lognormal:MEDIAN:P99: " + spec);
+        }
+    }
+}
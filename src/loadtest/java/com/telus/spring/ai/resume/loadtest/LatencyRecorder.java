@@ -0,0 +1,52 @@
+package com.telus.spring.ai.resume.loadtest;
+
+import java.util.Arrays;
+
+/**
+ * Keeps every recorded latency so percentiles are exact. A load test run records at most
+ * a few hundred thousand samples, which is a few megabytes.
+ */
+public final class LatencyRecorder {
+
+    private long[] nanos = new long[1024];
+    private int size;
+
+    public synchronized void record(long latencyNanos) {
+        if (size == nanos.length) {
+            nanos = Arrays.copyOf(nanos, size * 2);
+        }
+        nanos[size++] = latencyNanos;
+    }
+
+    public synchronized int count() {
+        return size;
+    }
+
+    /**
+     * @param percentile The percentile, between 0 and 100
+     * @return The nearest-rank percentile in milliseconds, or NaN without samples
+     */
+    public synchronized double percentileMillis(double percentile) {
+        if (size == 0) {
+            return Double.NaN;
+        }
+        long[] sorted = Arrays.copyOf(nanos, size);
+        Arrays.sort(sorted);
+        int rank = (int) Math.ceil(percentile / 100 * size);
+        return sorted[Math.min(Math.max(rank, 1), size) - 1] / 1_000_000.0;
+    }
+
+    /**
+     * @return The mean in milliseconds, or NaN without samples
+     */
+    public synchronized double meanMillis() {
+        if (size == 0) {
+            return Double.NaN;
+        }
+        double total = 0;
+        for (int i = 0; i < size; i++) {
+            total += nanos[i];
+        }
+        return total / size / 1_000_000.0;
+    }
+}
@@ -0,0 +1,225 @@
+package com.telus.spring.ai.resume.loadtest;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Closed-loop load driver for the upload, match and sync endpoints.
+ * A fixed number of workers send requests back to back; the report gives the outcome
+ * counts, the throughput of successful requests and their latency percentiles.
+ *
+ * Options:
+ * --scenario upload, match or sync (required);
+ * --base-url (default http://localhost:8080);
+ * --concurrency workers (default 8, always 1 for sync, which the server runs one at a time);
+ * --requests measured requests (default 100), or --duration to run for a fixed time instead, e.g. 2m;
+ * --warmup requests sent before measuring (default 0);
+ * --resumes directory of files to upload (default target/loadtest/resumes, see ResumeSeeder);
+ * --limit and --mode for match requests (default 5 and the server default);
+ * --timeout per request (default 180s); --seed for the job descriptions (default 42).
+ */
+public final class LoadDriver {
+
+    private final HttpClient httpClient;
+    private final Duration timeout;
+
+    private LoadDriver(Duration timeout) {
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(10))
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+        this.timeout = timeout;
+    }
+
+    /**
+     * One kind of request and how to judge its response.
+     */
+    interface Scenario {
+
+        HttpRequest.Builder request(int index) throws IOException;
+
+        /**
+         * @return "ok", or a short label for the failure
+         */
+        default String outcome(HttpResponse<String> response) {
+            return response.statusCode() == 200 ? "ok" : "http-" + response.statusCode();
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        Options options = Options.parse(args);
+        String scenarioName = options.string("scenario", null);
+        if (scenarioName == null) {
+            throw new IllegalArgumentException("--scenario upload, match or sync is required");
+        }
+        URI baseUrl = URI.create(options.string("base-url", "http://localhost:8080"));
+        Scenario scenario = switch (scenarioName) {
+            case "upload" -> upload(baseUrl, Path.of(options.string("resumes", "target/loadtest/resumes")));
+            case "match" -> match(baseUrl, new SyntheticResumes(options.longValue("seed", 42)),
+                    options.intValue("limit", 5), options.string("mode", null));
+            case "sync" -> sync(baseUrl);
+            default -> throw new IllegalArgumentException("Unknown scenario, expected upload, match or sync: " + scenarioName);
+        };
+        int concurrency = scenarioName.equals("sync") ? 1 : options.intValue("concurrency", 8);
+        Duration duration = options.duration("duration", null);
+        int requests = duration != null ? Integer.MAX_VALUE : options.intValue("requests", 100);
+
+        LoadDriver driver = new LoadDriver(options.duration("timeout", Duration.ofSeconds(180)));
+        int warmup = options.intValue("warmup", 0);
+        if (warmup > 0) {
+            System.out.printf("Warming up with %d %s requests%n", warmup, scenarioName);
+            driver.run(scenario, concurrency, 0, warmup, null);
+        }
+        System.out.printf("Running %s with %d workers%s%n", scenarioName, concurrency,
+                duration != null ? " for " + duration.toSeconds() + " s" : ", " + requests + " requests");
+        driver.run(scenario, concurrency, warmup, requests, duration).print(scenarioName, concurrency);
+    }
+
+    /**
+     * Send requests from concurrent workers until the count or the duration is reached.
+     *
+     * @param firstIndex The index of the first request, so warmup and measured requests differ
+     */
+    private Result run(Scenario scenario, int concurrency, int firstIndex, int requests, Duration duration)
+            throws InterruptedException {
+        Result result = new Result();
+        AtomicInteger next = new AtomicInteger();
+        long start = System.nanoTime();
+        long deadline = duration != null ? start + duration.toNanos() : Long.MAX_VALUE;
+
+        try (ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int w = 0; w < concurrency; w++) {
+                workers.execute(() -> {
+                    int index;
+                    while (System.nanoTime() < deadline && (index = next.getAndIncrement()) < requests) {
+                        send(scenario, firstIndex + index, result);
+                    }
+                });
+            }
+        }
+        result.elapsedNanos = System.nanoTime() - start;
+        return result;
+    }
+
+    private void send(Scenario scenario, int index, Result result) {
+        String outcome;
+        long started = System.nanoTime();
+        try {
+            HttpResponse<String> response = httpClient.send(scenario.request(index).timeout(timeout).build(),
+                    HttpResponse.BodyHandlers.ofString());
+            outcome = scenario.outcome(response);
+        } catch (IOException e) {
+            outcome = e instanceof HttpTimeoutException ? "timeout" : "io-error";
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        long latency = System.nanoTime() - started;
+        result.outcomes.computeIfAbsent(outcome, key -> new LongAdder()).increment();
+        if (outcome.equals("ok")) {
+            result.latencies.record(latency);
+        }
+    }
+
+    private static Scenario upload(URI baseUrl, Path directory) throws IOException {
+        List<Path> files;
+        try (Stream<Path> listing = Files.list(directory)) {
+            files = listing.filter(Files::isRegularFile).sorted().toList();
+        }
+        if (files.isEmpty()) {
+            throw new IllegalArgumentException("No resumes to upload in " + directory + ", run ResumeSeeder first");
+        }
+        return index -> {
+            Path file = files.get(index % files.size());
+            String boundary = "loadtest-" + UUID.randomUUID();
+            return HttpRequest.newBuilder(baseUrl.resolve("/api/resumes"))
+                    .header("Content-Type", "multipart/form-data; boundary=" + boundary)
+                    .POST(HttpRequest.BodyPublishers.ofByteArray(multipart(boundary, file)));
+        };
+    }
+
+    private static Scenario match(URI baseUrl, SyntheticResumes data, int limit, String mode) {
+        return index -> {
+            String form = "jd=" + URLEncoder.encode(data.jobDescription(index), StandardCharsets.UTF_8)
+                    + "&limit=" + limit
+                    + (mode != null ? "&mode=" + mode : "");
+            return HttpRequest.newBuilder(baseUrl.resolve("/api/resumes/match"))
+                    .header("Content-Type", "application/x-www-form-urlencoded")
+                    .POST(HttpRequest.BodyPublishers.ofString(form));
+        };
+    }
+
+    private static Scenario sync(URI baseUrl) {
+        ObjectMapper objectMapper = new ObjectMapper();
+        return new Scenario() {
+            @Override
+            public HttpRequest.Builder request(int index) {
+                return HttpRequest.newBuilder(baseUrl.resolve("/api/admin/sync-vector-store"))
+                        .POST(HttpRequest.BodyPublishers.noBody());
+            }
+
+            @Override
+            public String outcome(HttpResponse<String> response) {
+                if (response.statusCode() != 200) {
+                    return "http-" + response.statusCode();
+                }
+                try {
+                    // A sync started by the scheduler makes the request return without syncing
+                    return objectMapper.readTree(response.body()).path("success").asBoolean() ? "ok" : "sync-in-progress";
+                } catch (IOException e) {
+                    return "bad-response";
+                }
+            }
+        };
+    }
+
+    private static byte[] multipart(String boundary, Path file) throws IOException {
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        body.writeBytes(("--" + boundary + "\r\n"
+                + "Content-Disposition: form-data; name=\"file\"; filename=\"" + file.getFileName() + "\"\r\n"
+                + "Content-Type: application/octet-stream\r\n\r\n").getBytes(StandardCharsets.UTF_8));
+        body.writeBytes(Files.readAllBytes(file));
+        body.writeBytes(("\r\n--" + boundary + "--\r\n").getBytes(StandardCharsets.UTF_8));
+        return body.toByteArray();
+    }
+
+    private static final class Result {
+
+        private final Map<String, LongAdder> outcomes = new ConcurrentSkipListMap<>();
+        private final LatencyRecorder latencies = new LatencyRecorder();
+        private long elapsedNanos;
+
+        void print(String scenario, int concurrency) {
+            double seconds = elapsedNanos / 1e9;
+            long total = outcomes.values().stream().mapToLong(LongAdder::sum).sum();
+            System.out.printf("%n%s: %d requests in %.1f s with %d workers%n", scenario, total, seconds, concurrency);
+            outcomes.forEach((outcome, count) -> System.out.printf("  %-18s %8d%n", outcome, count.sum()));
+            System.out.printf("Throughput: %.2f ok/s%n", latencies.count() / seconds);
+            System.out.printf("Latency of ok requests (ms): mean %.1f  p50 %.1f  p90 %.1f  p99 %.1f  max %.1f%n",
+                    latencies.meanMillis(), latencies.percentileMillis(50), latencies.percentileMillis(90),
+                    latencies.percentileMillis(99), latencies.percentileMillis(100));
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.telus.spring.ai.resume.loadtest;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.apache.poi.xwpf.usermodel.XWPFDocument;
+
+/**
+ * Writes N synthetic resume files for the upload scenario of the load driver.
+ *
+ * Options: --count (default 200), --out (default target/loadtest/resumes),
+ * --format txt or docx (default txt), --seed (default 42).
+ */
+public final class ResumeSeeder {
+
+    private ResumeSeeder() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        Options options = Options.parse(args);
+        int count = options.intValue("count", 200);
+        Path out = Path.of(options.string("out", "target/loadtest/resumes"));
+        String format = options.string("format", "txt");
+        SyntheticResumes resumes = new SyntheticResumes(options.longValue("seed", 42));
+
+        if (!format.equals("txt") && !format.equals("docx")) {
+            throw new IllegalArgumentException("Unsupported format, expected txt or docx: " + format);
+        }
+        Files.createDirectories(out);
+        for (int i = 0; i < count; i++) {
+            Path file = out.resolve(String.format("resume-%06d.%s", i, format));
+            if (format.equals("docx")) {
+                writeDocx(file, resumes.resume(i));
+            } else {
+                Files.writeString(file, resumes.resume(i), StandardCharsets.UTF_8);
+            }
+        }
+        System.out.printf("Wrote %d %s resumes to %s%n", count, format, out.toAbsolutePath());
+    }
+
+    private static void writeDocx(Path file, String text) throws IOException {
+        try (XWPFDocument document = new XWPFDocument(); OutputStream out = Files.newOutputStream(file)) {
+            for (String line : text.split("\n")) {
+                document.createParagraph().createRun().setText(line);
+            }
+            document.write(out);
+        }
+    }
+}
@@ -0,0 +1,293 @@
+package com.telus.spring.ai.resume.loadtest;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * OpenAI-compatible stand-in for the chat and embedding endpoints, so the application can
+ * be load tested offline without spending tokens.
+ *
+ * Chat completions answer the resume parser prompt with the labelled contact details of the
+ * resume, and any other prompt with a match explanation in the resume-match prompt format.
+ * Embeddings are deterministic hashed bag-of-words vectors: the same text always gets the
+ * same vector, and texts sharing words get similar vectors, so retrieval behaves plausibly.
+ *
+ * Start the application with --fuelix.api.base-url=http://localhost:PORT to use it.
+ */
+public final class StubAiServer {
+
+    private static final Pattern TOKEN = Pattern.compile("[\\p{L}\\p{N}+#]+");
+    private static final Pattern NAME = Pattern.compile("(?m)^Name:\\s*(.+)$");
+    private static final Pattern EMAIL = Pattern.compile("(?m)^Email:\\s*(\\S+)");
+    private static final Pattern PHONE = Pattern.compile("(?m)^Phone:\\s*(.+)$");
+    private static final String PARSER_PROMPT = "Extract the following information from this resume";
+
+    /** Dimensions each token is hashed into */
+    private static final int FEATURES_PER_TOKEN = 4;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Random random;
+    private final LatencyDistribution chatLatency;
+    private final LatencyDistribution embeddingLatency;
+    private final double chatErrorRate;
+    private final double embeddingErrorRate;
+    private final int errorStatus;
+    private final int dimensions;
+    private final long seed;
+
+    private final AtomicLong chatRequests = new AtomicLong();
+    private final AtomicLong embeddingRequests = new AtomicLong();
+    private final AtomicLong embeddedTexts = new AtomicLong();
+    private final AtomicLong injectedErrors = new AtomicLong();
+
+    public StubAiServer(LatencyDistribution chatLatency, LatencyDistribution embeddingLatency,
+            double chatErrorRate, double embeddingErrorRate, int errorStatus, int dimensions, long seed) {
+        this.chatLatency = chatLatency;
+        this.embeddingLatency = embeddingLatency;
+        this.chatErrorRate = chatErrorRate;
+        this.embeddingErrorRate = embeddingErrorRate;
+        this.errorStatus = errorStatus;
+        this.dimensions = dimensions;
+        this.seed = seed;
+        this.random = new Random(seed);
+    }
+
+    public static void main(String[] args) throws IOException {
+        Options options = Options.parse(args);
+        StubAiServer server = new StubAiServer(
+                LatencyDistribution.parse(options.string("chat-latency", "lognormal:1500:6000")),
+                LatencyDistribution.parse(options.string("embedding-latency", "lognormal:80:400")),
+                options.doubleValue("chat-error-rate", 0),
+                options.doubleValue("embedding-error-rate", 0),
+                options.intValue("error-status", 503),
+                options.intValue("dimensions", 1536),
+                options.longValue("seed", 42));
+        server.start(options.intValue("port", 9090));
+    }
+
+    /**
+     * Start serving on the given port. Requests are handled on virtual threads, so
+     * simulated latency never limits concurrency.
+     *
+     * @param port The port to listen on
+     * @return The running server
+     */
+    public HttpServer start(int port) throws IOException {
+        HttpServer server = HttpServer.create(new InetSocketAddress(port), 0);
+        server.createContext("/v1/chat/completions",
+                exchange -> handle(exchange, chatRequests, chatLatency, chatErrorRate, this::chatCompletion));
+        server.createContext("/v1/embeddings",
+                exchange -> handle(exchange, embeddingRequests, embeddingLatency, embeddingErrorRate, this::embeddings));
+        server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        server.start();
+
+        Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "stub-ai-stats");
+            thread.setDaemon(true);
+            return thread;
+        }).scheduleAtFixedRate(this::printStats, 10, 10, TimeUnit.SECONDS);
+
+        System.out.printf("Stub AI server listening on http://localhost:%d (chat and embeddings under /v1)%n", port);
+        return server;
+    }
+
+    private void handle(HttpExchange exchange, AtomicLong requests, LatencyDistribution latency,
+            double errorRate, Function<JsonNode, JsonNode> responder) throws IOException {
+        try {
+            requests.incrementAndGet();
+            JsonNode request;
+            try (InputStream body = exchange.getRequestBody()) {
+                request = objectMapper.readTree(body);
+            }
+
+            Thread.sleep(Math.max(0, latency.sampleMillis(random)));
+
+            if (random.nextDouble() < errorRate) {
+                injectedErrors.incrementAndGet();
+                send(exchange, errorStatus, objectMapper.createObjectNode().set("error", objectMapper.createObjectNode()
+                        .put("message", "Injected failure from the stub AI server")
+                        .put("type", "server_error")));
+                return;
+            }
+            send(exchange, 200, responder.apply(request));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException e) {
+            System.err.println("Stub AI server failed to answer: " + e);
+            send(exchange, 400, objectMapper.createObjectNode().set("error", objectMapper.createObjectNode()
+                    .put("message", String.valueOf(e.getMessage()))
+                    .put("type", "invalid_request_error")));
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private void send(HttpExchange exchange, int status, JsonNode body) throws IOException {
+        byte[] bytes = objectMapper.writeValueAsBytes(body);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private JsonNode chatCompletion(JsonNode request) {
+        StringBuilder prompt = new StringBuilder();
+        for (JsonNode message : request.path("messages")) {
+            prompt.append(message.path("content").asText()).append('\n');
+        }
+        String content = prompt.indexOf(PARSER_PROMPT) >= 0 ? parsedContact(prompt) : matchExplanation(prompt);
+
+        ObjectNode response = objectMapper.createObjectNode()
+                .put("id", "chatcmpl-stub-" + chatRequests.get())
+                .put("object", "chat.completion")
+                .put("created", System.currentTimeMillis() / 1000)
+                .put("model", request.path("model").asText("stub"));
+        ObjectNode choice = response.putArray("choices").addObject().put("index", 0).put("finish_reason", "stop");
+        choice.putObject("message").put("role", "assistant").put("content", content);
+        int promptTokens = prompt.length() / 4;
+        int completionTokens = content.length() / 4;
+        response.putObject("usage")
+                .put("prompt_tokens", promptTokens)
+                .put("completion_tokens", completionTokens)
+                .put("total_tokens", promptTokens + completionTokens);
+        return response;
+    }
+
+    private String parsedContact(CharSequence prompt) {
+        ObjectNode contact = objectMapper.createObjectNode()
+                .put("name", find(NAME, prompt, "Unknown"))
+                .put("email", find(EMAIL, prompt, "unknown@example.com"))
+                .put("phoneNumber", find(PHONE, prompt, "Unknown"));
+        return contact.toPrettyString();
+    }
+
+    private static String find(Pattern pattern, CharSequence text, String defaultValue) {
+        Matcher matcher = pattern.matcher(text);
+        return matcher.find() ? matcher.group(1).trim() : defaultValue;
+    }
+
+    /**
+     * An explanation with a score derived from the prompt, so repeated calls for the same
+     * resume and job description agree.
+     */
+    private String matchExplanation(CharSequence prompt) {
+        int score = 40 + Math.floorMod(prompt.toString().hashCode(), 56);
+        int technical = score * 30 / 100;
+        int experience = score * 25 / 100;
+        int education = score * 15 / 100;
+        int soft = score * 15 / 100;
+        int achievements = score - technical - experience - education - soft;
+        return """
+                ## EXECUTIVE SUMMARY
+                Synthetic analysis from the stub AI server. The candidate covers part of the required skills.
+
+                ## MATCH SCORE: %d/100
+
+                ## KEY STRENGTHS
+                • Relevant backend experience - several matching technologies
+                • Delivery record - measurable throughput improvements
+
+                ## IMPROVEMENT AREAS
+                • Some nice-to-have skills are missing
+
+                ## DETAILED CATEGORY SCORES
+                • Technical Skills: %d/30
+                • Experience: %d/25
+                • Education & Certifications: %d/15
+                • Soft Skills & Cultural Fit: %d/15
+                • Achievements & Impact: %d/15
+
+                ## HIRING RECOMMENDATION
+                %s
+                """.formatted(score, technical, experience, education, soft, achievements,
+                        score >= 75 ? "Strong Match" : score >= 55 ? "Potential Match" : "Not Recommended");
+    }
+
+    private JsonNode embeddings(JsonNode request) {
+        List<String> inputs = new ArrayList<>();
+        JsonNode input = request.path("input");
+        if (input.isArray()) {
+            input.forEach(text -> inputs.add(text.asText()));
+        } else {
+            inputs.add(input.asText());
+        }
+        embeddedTexts.addAndGet(inputs.size());
+
+        ObjectNode response = objectMapper.createObjectNode()
+                .put("object", "list")
+                .put("model", request.path("model").asText("stub"));
+        ArrayNode data = response.putArray("data");
+        int tokens = 0;
+        for (int i = 0; i < inputs.size(); i++) {
+            ArrayNode vector = data.addObject().put("object", "embedding").put("index", i).putArray("embedding");
+            for (float value : embed(inputs.get(i))) {
+                vector.add(value);
+            }
+            tokens += inputs.get(i).length() / 4;
+        }
+        response.putObject("usage").put("prompt_tokens", tokens).put("total_tokens", tokens);
+        return response;
+    }
+
+    /**
+     * Hash each lower-cased token into a few signed dimensions and normalize to unit length.
+     */
+    float[] embed(String text) {
+        float[] vector = new float[dimensions];
+        Matcher matcher = TOKEN.matcher(text.toLowerCase(Locale.ROOT));
+        while (matcher.find()) {
+            long hash = mix(matcher.group().hashCode() ^ seed);
+            for (int i = 0; i < FEATURES_PER_TOKEN; i++) {
+                hash = mix(hash + i);
+                vector[(int) Math.floorMod(hash, (long) dimensions)] += (hash & 0x100) == 0 ? 1 : -1;
+            }
+        }
+        double norm = 0;
+        for (float value : vector) {
+            norm += value * value;
+        }
+        if (norm == 0) {
+            vector[0] = 1;
+            return vector;
+        }
+        float scale = (float) (1 / Math.sqrt(norm));
+        for (int i = 0; i < dimensions; i++) {
+            vector[i] *= scale;
+        }
+        return vector;
+    }
+
+    /**
+     * SplitMix64 finalizer.
+     */
+    private static long mix(long value) {
+        value = (value ^ (value >>> 30)) * 0xbf58476d1ce4e5b9L;
+        value = (value ^ (value >>> 27)) * 0x94d049bb133111ebL;
+        return value ^ (value >>> 31);
+    }
+
+    private void printStats() {
+        System.out.printf("chat=%d embeddings=%d (texts=%d) injected-errors=%d%n",
+                chatRequests.get(), embeddingRequests.get(), embeddedTexts.get(), injectedErrors.get());
+    }
+}
@@ -0,0 +1,133 @@
+package com.telus.spring.ai.resume.loadtest;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * Generates synthetic resumes and job descriptions from a shared vocabulary.
+ * Output depends only on the seed and index, so every run loads the same data set.
+ * Each resume has a distinct name, email and phone number, as the resumes table requires.
+ */
+public final class SyntheticResumes {
+
+    private static final String[] FIRST_NAMES = {
+        "Alex", "Sam", "Jordan", "Taylor", "Morgan", "Casey", "Riley", "Jamie", "Avery", "Quinn",
+        "Priya", "Wei", "Fatima", "Mateo", "Olga", "Kenji", "Amara", "Lucas", "Noor", "Elena"
+    };
+
+    private static final String[] LAST_NAMES = {
+        "Smith", "Nguyen", "Patel", "Garcia", "Kim", "Okafor", "Silva", "Novak", "Haddad", "Tanaka",
+        "Martin", "Singh", "Kowalski", "Rossi", "Dubois", "Chen", "Ibrahim", "Larsen", "Lopez", "Brown"
+    };
+
+    private static final String[] SKILLS = {
+        "Java", "Spring Boot", "Kotlin", "Python", "Go", "TypeScript", "React", "Angular", "Node.js",
+        "PostgreSQL", "MySQL", "MongoDB", "Redis", "Kafka", "RabbitMQ", "Elasticsearch", "Kubernetes",
+        "Docker", "Terraform", "AWS", "GCP", "Azure", "CI/CD", "GraphQL", "gRPC", "Microservices",
+        "Machine Learning", "PyTorch", "Spark", "Airflow", "Observability", "Prometheus", "Security",
+        "OAuth2", "Vaadin", "Hibernate", "JUnit", "Linux", "Networking", "Scrum"
+    };
+
+    private static final String[] TITLES = {
+        "Software Engineer", "Senior Software Engineer", "Backend Developer", "Full Stack Developer",
+        "Data Engineer", "DevOps Engineer", "Site Reliability Engineer", "Machine Learning Engineer",
+        "Platform Engineer", "Technical Lead"
+    };
+
+    private static final String[] COMPANIES = {
+        "Northwind", "Contoso", "Globex", "Initech", "Umbrella Systems", "Hooli", "Vandelay Industries",
+        "Stark Logistics", "Wayne Analytics", "Acme Telecom"
+    };
+
+    private static final String[] DEGREES = {
+        "B.Sc. Computer Science", "M.Sc. Computer Science", "B.Eng. Software Engineering",
+        "B.Sc. Mathematics", "M.Sc. Data Science", "Diploma in Information Technology"
+    };
+
+    private final long seed;
+
+    public SyntheticResumes(long seed) {
+        this.seed = seed;
+    }
+
+    /**
+     * @param index The resume number
+     * @return The resume as plain text, with labelled contact details
+     */
+    public String resume(int index) {
+        Random random = new Random(seed * 31 + index);
+        String first = FIRST_NAMES[index % FIRST_NAMES.length];
+        String last = LAST_NAMES[(index / FIRST_NAMES.length) % LAST_NAMES.length];
+        List<String> skills = pick(random, 6 + random.nextInt(8));
+
+        StringBuilder text = new StringBuilder();
+        text.append("Name: ").append(first).append(' ').append(initials(index)).append(". ").append(last).append('\n');
+        text.append("Email: ").append(first.toLowerCase()).append('.').append(last.toLowerCase())
+            .append('.').append(index).append("@example.com\n");
+        text.append(String.format("Phone: +1 555 %03d %04d\n", (index / 10000) % 1000, index % 10000));
+        text.append('\n');
+
+        int years = 1 + random.nextInt(20);
+        text.append("SUMMARY\n")
+            .append(TITLES[random.nextInt(TITLES.length)]).append(" with ").append(years)
+            .append(" years of experience in ").append(String.join(", ", skills.subList(0, 3))).append(".\n\n");
+
+        text.append("SKILLS\n").append(String.join(", ", skills)).append("\n\n");
+
+        text.append("EXPERIENCE\n");
+        int jobs = 1 + random.nextInt(4);
+        for (int job = 0; job < jobs; job++) {
+            text.append(TITLES[random.nextInt(TITLES.length)]).append(" - ")
+                .append(COMPANIES[random.nextInt(COMPANIES.length)]).append(" (")
+                .append(2024 - job * 3 - 3).append(" - ").append(2024 - job * 3).append(")\n");
+            for (int bullet = 0; bullet < 3 + random.nextInt(3); bullet++) {
+                text.append("- Delivered ").append(skills.get(random.nextInt(skills.size())))
+                    .append(" work improving throughput by ").append(5 + random.nextInt(60))
+                    .append("% for ").append(1 + random.nextInt(50)).append(" teams using ")
+                    .append(skills.get(random.nextInt(skills.size()))).append(".\n");
+            }
+            text.append('\n');
+        }
+
+        text.append("EDUCATION\n").append(DEGREES[random.nextInt(DEGREES.length)]).append('\n');
+        return text.toString();
+    }
+
+    /**
+     * @param index The job description number
+     * @return A job description asking for a handful of skills from the resume vocabulary
+     */
+    public String jobDescription(int index) {
+        Random random = new Random(seed * 17 + index + 1_000_003);
+        List<String> skills = pick(random, 4 + random.nextInt(4));
+        return "We are hiring a " + TITLES[random.nextInt(TITLES.length)] + " with at least "
+                + (2 + random.nextInt(8)) + " years of experience. Required skills: "
+                + String.join(", ", skills.subList(0, 3)) + ". Nice to have: "
+                + String.join(", ", skills.subList(3, skills.size()))
+                + ". You will design, build and operate services used by millions of customers.";
+    }
+
+    private static List<String> pick(Random random, int count) {
+        Set<String> picked = new LinkedHashSet<>();
+        while (picked.size() < count) {
+            picked.add(SKILLS[random.nextInt(SKILLS.length)]);
+        }
+        return new ArrayList<>(picked);
+    }
+
+    /**
+     * Middle initials distinguishing people that share a first and last name.
+     */
+    private static String initials(int index) {
+        int generation = index / (FIRST_NAMES.length * LAST_NAMES.length);
+        StringBuilder initials = new StringBuilder();
+        do {
+            initials.append((char) ('A' + generation % 26));
+            generation /= 26;
+        } while (generation > 0);
+        return initials.toString();
+    }
+}
@@ -3,16 +3,26 @@ package com.telus.spring.ai.resume.config;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.core.task.support.ContextPropagatingTaskDecorator;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.ThreadPoolExecutor;
 
 /**
  * Configuration for asynchronous execution.
  * Defines thread pools for different types of operations.
  * Uses externalized configuration from application.properties.
+ * With app.async.virtual-threads.enabled the IO-bound AI and background executors run on
+ * virtual threads. The resume processing pool keeps platform threads: besides CPU-bound
+ * text extraction it only runs the retrieval step of interactive matches (one query
+ * embedding and one search each), which is short and capped by the concurrent-match limit.
+ * Every executor carries the submitting thread's context (the current observation and
+ * tracing span, logging MDC) over to the task, so spans of async stages join their request.
  */
 @Configuration
 @EnableAsync
@@ -36,6 +46,29 @@ public class AsyncConfig {
     @Value("${app.async.ai-operations.queue-capacity:200}")
     private int aiOperationsQueueCapacity;
     
+    @Value("${app.async.virtual-threads.enabled:false}")
+    private boolean virtualThreadsEnabled;
+    
+    @Value("${app.async.virtual-threads.max-concurrency:200}")
+    private int virtualThreadsMaxConcurrency;
+    
+    @Value("${app.async.virtual-threads.background-max-concurrency:8}")
+    private int virtualThreadsBackgroundMaxConcurrency;
+    
+    @Value("${app.async.background.pool-size:4}")
+    private int backgroundPoolSize;
+    
+    @Value("${app.async.background.queue-capacity:200}")
+    private int backgroundQueueCapacity;
+    
+    @Value("${app.async.match-jobs.pool-size:4}")
+    private int matchJobsCorePoolSize;
+    
+    @Value("${app.async.match-jobs.queue-capacity:100}")
+    private int matchJobsQueueCapacity;
+    
+    private final TaskDecorator contextPropagation = new ContextPropagatingTaskDecorator();
+    
     /**
      * Executor for general resume processing operations.
      * 
@@ -48,24 +81,101 @@ public class AsyncConfig {
         executor.setMaxPoolSize(resumeProcessingMaxPoolSize);
         executor.setQueueCapacity(resumeProcessingQueueCapacity);
         executor.setThreadNamePrefix("ResumeProc-");
+        executor.setTaskDecorator(contextPropagation);
         executor.initialize();
         return executor;
     }
     
     /**
      * Executor specifically for AI operations, which may be more resource-intensive.
+     * AI calls spend nearly all their time blocked on HTTP, so in virtual thread mode each
+     * call gets its own virtual thread and only the concurrency limit bounds them; once the
+     * limit is reached, submitters wait for a slot instead of being rejected.
      * 
      * @return The configured executor
      */
     @Bean(name = "aiOperationsExecutor")
     public Executor aiOperationsExecutor() {
+        if (virtualThreadsEnabled) {
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("AI-Op-");
+            executor.setVirtualThreads(true);
+            executor.setConcurrencyLimit(virtualThreadsMaxConcurrency);
+            executor.setTaskDecorator(contextPropagation);
+            return executor;
+        }
+        
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
         executor.setCorePoolSize(aiOperationsCorePoolSize);
         executor.setMaxPoolSize(aiOperationsMaxPoolSize);
         executor.setQueueCapacity(aiOperationsQueueCapacity);
         executor.setThreadNamePrefix("AI-Op-");
-        // Use CallerRunsPolicy to prevent rejection when queue is full
-        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        // Reject when the queue is full (AbortPolicy) so callers can shed load explicitly
+        // instead of running AI calls on request threads
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.setTaskDecorator(contextPropagation);
+        executor.initialize();
+        return executor;
+    }
+    
+    /**
+     * Executor for background work: vector store sync batches, bulk parsing and retrieval
+     * for match jobs. Keeping it apart from the resume processing executor means a large
+     * sync or import never queues ahead of interactive matches.
+     * These tasks mostly wait on embedding and chat HTTP calls and the database, so in
+     * virtual thread mode each gets its own virtual thread, and at most
+     * background-max-concurrency of them run at once so that background work cannot take
+     * every database connection or flood the embedding provider. The limit is not the
+     * executor's concurrency limit, which blocks submitters: a finishing task starts the
+     * next batch of its operation (BoundedParallel) while it still holds its slot, and would
+     * wait for a slot that only it can free. Instead submission never blocks, and each
+     * virtual thread waits for a permit before it runs its task.
+     * 
+     * @return The configured executor
+     */
+    @Bean(name = "backgroundExecutor")
+    public Executor backgroundExecutor() {
+        if (virtualThreadsEnabled) {
+            Semaphore permits = new Semaphore(virtualThreadsBackgroundMaxConcurrency);
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("Background-");
+            executor.setVirtualThreads(true);
+            executor.setTaskDecorator(runnable -> {
+                Runnable task = contextPropagation.decorate(runnable);
+                return () -> {
+                    permits.acquireUninterruptibly();
+                    try {
+                        task.run();
+                    } finally {
+                        permits.release();
+                    }
+                };
+            });
+            return executor;
+        }
+        
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(backgroundPoolSize);
+        executor.setMaxPoolSize(backgroundPoolSize);
+        executor.setQueueCapacity(backgroundQueueCapacity);
+        executor.setThreadNamePrefix("Background-");
+        executor.setTaskDecorator(contextPropagation);
+        executor.initialize();
+        return executor;
+    }
+    
+    /**
+     * Executor for background match jobs.
+     * Each job fans out its AI calls to the AI operations executor, so a few threads suffice.
+     * 
+     * @return The configured executor
+     */
+    @Bean(name = "matchJobExecutor")
+    public Executor matchJobExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(matchJobsCorePoolSize);
+        executor.setMaxPoolSize(matchJobsCorePoolSize);
+        executor.setQueueCapacity(matchJobsQueueCapacity);
+        executor.setThreadNamePrefix("MatchJob-");
+        executor.setTaskDecorator(contextPropagation);
         executor.initialize();
         return executor;
     }
@@ -82,6 +192,7 @@ public class AsyncConfig {
         executor.setMaxPoolSize(5);
         executor.setQueueCapacity(25);
         executor.setThreadNamePrefix("Task-");
+        executor.setTaskDecorator(contextPropagation);
         executor.initialize();
         return executor;
     }
@@ -0,0 +1,45 @@
+package com.telus.spring.ai.resume.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration for caching resume lookups.
+ * Uses Caffeine caches with statistics enabled; cache operations are made
+ * transaction-aware so evictions only happen once the write has committed.
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+    
+    /**
+     * Cache of resumes keyed by ID.
+     */
+    public static final String RESUMES_BY_ID = "resumesById";
+    
+    /**
+     * Cache of resumes keyed by the (name, email, phone number) natural key.
+     */
+    public static final String RESUMES_BY_NATURAL_KEY = "resumesByNaturalKey";
+    
+    @Value("${resume.cache.spec:maximumSize=10000,expireAfterWrite=30m,recordStats}")
+    private String cacheSpec;
+    
+    /**
+     * Cache manager for resume lookups.
+     * 
+     * @return The configured cache manager
+     */
+    @Bean
+    public CacheManager cacheManager() {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager(RESUMES_BY_ID, RESUMES_BY_NATURAL_KEY);
+        cacheManager.setCacheSpecification(cacheSpec);
+        cacheManager.setAllowNullValues(false);
+        return new TransactionAwareCacheManagerProxy(cacheManager);
+    }
+}
@@ -0,0 +1,24 @@
+package com.telus.spring.ai.resume.config;
+
+import java.util.List;
+
+import org.springframework.ai.document.Document;
+import org.springframework.ai.vectorstore.SearchRequest;
+import org.springframework.ai.vectorstore.VectorStore;
+
+/**
+ * Vector store that can also combine semantic and keyword retrieval.
+ */
+public interface HybridVectorStore extends VectorStore {
+    
+    /**
+     * Search using both vector similarity and full-text keyword matching, fusing the
+     * two rankings with reciprocal rank fusion.
+     * 
+     * @param request The search request; its query is embedded for the semantic ranking
+     * @param keywords Keywords for the keyword ranking in web search syntax, or null to
+     *                 match any of the terms of the request query
+     * @return The fused results, best first, at most {@code request.getTopK()} documents
+     */
+    List<Document> hybridSearch(SearchRequest request, String keywords);
+}
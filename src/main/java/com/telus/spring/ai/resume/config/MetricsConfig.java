@@ -0,0 +1,66 @@
+package com.telus.spring.ai.resume.config;
+
+import java.util.Map;
+import java.util.concurrent.Executor;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.transaction.TransactionAwareCacheDecorator;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+
+/**
+ * Configuration for the metrics that are not recorded where the work happens:
+ * executor pool gauges and cache hit ratios. Timers and counters of the matching and
+ * ingestion pipelines are recorded by the services themselves.
+ */
+@Configuration
+public class MetricsConfig {
+
+    /**
+     * Queue depth, active threads and completed tasks of every thread pool executor,
+     * published as executor.* meters tagged with the bean name.
+     * The pools are declared as plain Executor beans, so they are bound here explicitly.
+     *
+     * @param executors The executor beans by name
+     * @return The meter binder
+     */
+    @Bean
+    public MeterBinder executorMetrics(Map<String, Executor> executors) {
+        return registry -> executors.forEach((name, executor) -> {
+            if (executor instanceof ThreadPoolTaskExecutor pool) {
+                new ExecutorServiceMetrics(pool.getThreadPoolExecutor(), name, Tags.empty()).bindTo(registry);
+            }
+        });
+    }
+
+    /**
+     * Hit ratio of each resume cache since startup, from the Caffeine statistics
+     * (the cache spec must include recordStats).
+     *
+     * @param cacheManager The cache manager
+     * @return The meter binder
+     */
+    @Bean
+    public MeterBinder cacheHitRatioMetrics(CacheManager cacheManager) {
+        return registry -> cacheManager.getCacheNames().forEach(name -> {
+            Cache cache = cacheManager.getCache(name);
+            if (cache instanceof TransactionAwareCacheDecorator decorator) {
+                cache = decorator.getTargetCache();
+            }
+            if (cache instanceof CaffeineCache caffeine) {
+                Gauge.builder("resume.cache.hit.ratio", caffeine.getNativeCache(), c -> c.stats().hitRate())
+                        .tag("cache", name)
+                        .description("Share of cache lookups that were hits")
+                        .register(registry);
+            }
+        });
+    }
+}
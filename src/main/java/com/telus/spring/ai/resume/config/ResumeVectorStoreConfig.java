@@ -1,18 +1,28 @@
 package com.telus.spring.ai.resume.config;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 import org.postgresql.util.PGobject;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.ai.document.Document;
+import org.springframework.ai.document.MetadataMode;
 import org.springframework.ai.embedding.EmbeddingModel;
 import org.springframework.ai.vectorstore.SearchRequest;
-import org.springframework.ai.vectorstore.VectorStore;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.jdbc.core.JdbcTemplate;
@@ -20,54 +30,153 @@ import org.springframework.jdbc.core.JdbcTemplate;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+
 /**
  * Configuration for the resume-specific vector store.
  */
 @Configuration
 public class ResumeVectorStoreConfig {
     
+    @Value("${resume.matching.hybrid.candidates:50}")
+    private int hybridCandidates;
+    
+    @Value("${resume.matching.hybrid.rrf-k:60}")
+    private int rrfK;
+    
+    @Value("${resume.embedding.batch-size:32}")
+    private int embeddingBatchSize;
+    
     /**
      * Create a dedicated vector store for resumes.
      * 
      * @param jdbcTemplate The JDBC template for database operations
      * @param embeddingModel The embedding model for generating embeddings
+     * @param meterRegistry The registry for embedding counts
+     * @param observationRegistry The registry for embedding and search timings and spans
      * @return A vector store for resumes
      */
     @Bean
     @Qualifier("resumeVectorStore")
-    public VectorStore resumeVectorStore(JdbcTemplate jdbcTemplate, EmbeddingModel embeddingModel, ObjectMapper objectMapper) {
-        return new ResumeVectorStore(jdbcTemplate, embeddingModel, objectMapper);
+    public HybridVectorStore resumeVectorStore(JdbcTemplate jdbcTemplate, EmbeddingModel embeddingModel, ObjectMapper objectMapper,
+                                               MeterRegistry meterRegistry, ObservationRegistry observationRegistry) {
+        return new ResumeVectorStore(jdbcTemplate, embeddingModel, objectMapper, meterRegistry, observationRegistry,
+                hybridCandidates, rrfK, embeddingBatchSize);
     }
     
     /**
      * Custom implementation of VectorStore that uses the resume_vector_store table.
+     * Package-private so the benchmarks can measure its row and vector conversions.
      */
-    private static class ResumeVectorStore implements VectorStore {
+    static class ResumeVectorStore implements HybridVectorStore {
         
         private static final Logger logger = LoggerFactory.getLogger(ResumeVectorStore.class);
         
+        /**
+         * English stop words (the Postgres 'english' dictionary list), removed from queries whose
+         * keywords are derived from a job description. The search_vector column uses the 'simple'
+         * configuration, so the remaining terms are matched unstemmed.
+         */
+        private static final Set<String> STOP_WORDS = Set.of(
+                "i", "me", "my", "myself", "we", "our", "ours", "ourselves", "you", "your", "yours",
+                "yourself", "yourselves", "he", "him", "his", "himself", "she", "her", "hers", "herself",
+                "it", "its", "itself", "they", "them", "their", "theirs", "themselves", "what", "which",
+                "who", "whom", "this", "that", "these", "those", "am", "is", "are", "was", "were", "be",
+                "been", "being", "have", "has", "had", "having", "do", "does", "did", "doing", "a", "an",
+                "the", "and", "but", "if", "or", "because", "as", "until", "while", "of", "at", "by",
+                "for", "with", "about", "against", "between", "into", "through", "during", "before",
+                "after", "above", "below", "to", "from", "up", "down", "in", "out", "on", "off", "over",
+                "under", "again", "further", "then", "once", "here", "there", "when", "where", "why",
+                "how", "all", "any", "both", "each", "few", "more", "most", "other", "some", "such", "no",
+                "nor", "not", "only", "own", "same", "so", "than", "too", "very", "s", "t", "can", "will",
+                "just", "don", "should", "now");
+        
         private final JdbcTemplate jdbcTemplate;
         private final EmbeddingModel embeddingModel;
         private final ObjectMapper objectMapper;
+        private final MeterRegistry meterRegistry;
+        private final ObservationRegistry observationRegistry;
+        private final int hybridCandidates;
+        private final int rrfK;
+        private final int embeddingBatchSize;
         
-        public ResumeVectorStore(JdbcTemplate jdbcTemplate, EmbeddingModel embeddingModel, ObjectMapper objectMapper) {
+        public ResumeVectorStore(JdbcTemplate jdbcTemplate, EmbeddingModel embeddingModel, ObjectMapper objectMapper,
+                                 MeterRegistry meterRegistry, ObservationRegistry observationRegistry,
+                                 int hybridCandidates, int rrfK, int embeddingBatchSize) {
             this.jdbcTemplate = jdbcTemplate;
             this.embeddingModel = embeddingModel;
             this.objectMapper = objectMapper;
+            this.meterRegistry = meterRegistry;
+            this.observationRegistry = observationRegistry;
+            this.hybridCandidates = hybridCandidates;
+            this.rrfK = rrfK;
+            this.embeddingBatchSize = embeddingBatchSize;
         }
         
+        /**
+         * Upsert documents keyed by their resumeId.
+         * Only the metadata and embedding are stored; the document text lives in
+         * resume_content and is not duplicated here. Documents whose content hash
+         * matches the stored row are skipped without calling the embedding model;
+         * the rest are embedded in requests of at most resume.embedding.batch-size
+         * texts, which keeps each request within the provider's input limits, and
+         * written with a single batched INSERT ... ON CONFLICT (resume_id) DO UPDATE.
+         */
         @Override
         public void add(List<Document> documents) {
+            if (documents == null || documents.isEmpty()) {
+                return;
+            }
+            
+            // Compute the text that gets embedded and its hash for every document
+            List<UUID> resumeIds = new ArrayList<>(documents.size());
+            List<String> embedTexts = new ArrayList<>(documents.size());
+            List<String> hashes = new ArrayList<>(documents.size());
             for (Document document : documents) {
-                // Generate embedding
-                float[] embedding = embeddingModel.embed(document);
-                
-                // Convert embedding to PostgreSQL vector format
-                String vectorString = convertToVectorString(embedding);
-                
                 // Get resumeId as string and convert to UUID
-                String resumeIdStr = document.getMetadata().get("resumeId").toString();
-                UUID resumeId = UUID.fromString(resumeIdStr);
+                resumeIds.add(UUID.fromString(document.getMetadata().get("resumeId").toString()));
+                String embedText = document.getFormattedContent(MetadataMode.EMBED);
+                embedTexts.add(embedText);
+                hashes.add(contentHash(embedText));
+            }
+            
+            // Look up the stored hashes in one query and keep only changed or new documents
+            Map<UUID, String> storedHashes = new HashMap<>();
+            jdbcTemplate.query(
+                "SELECT resume_id, content_hash FROM resume_vector_store WHERE resume_id = ANY(?)",
+                ps -> ps.setArray(1, ps.getConnection().createArrayOf("uuid", resumeIds.toArray())),
+                rs -> {
+                    storedHashes.put(rs.getObject("resume_id", UUID.class), rs.getString("content_hash"));
+                }
+            );
+            
+            List<Integer> changed = new ArrayList<>();
+            for (int i = 0; i < documents.size(); i++) {
+                if (!hashes.get(i).equals(storedHashes.get(resumeIds.get(i)))) {
+                    changed.add(i);
+                }
+            }
+            
+            if (changed.isEmpty()) {
+                logger.debug("All {} documents unchanged, skipping vector store write", documents.size());
+                return;
+            }
+            
+            // Generate embeddings for the changed documents, a bounded number of texts per request
+            List<String> toEmbed = changed.stream().map(embedTexts::get).toList();
+            List<float[]> embeddings = new ArrayList<>(toEmbed.size());
+            for (int start = 0; start < toEmbed.size(); start += embeddingBatchSize) {
+                List<String> batch = toEmbed.subList(start, Math.min(start + embeddingBatchSize, toEmbed.size()));
+                embeddings.addAll(embeddingObservation("documents").observe(() -> embeddingModel.embed(batch)));
+                meterRegistry.counter("resume.embedding.texts", "type", "documents").increment(batch.size());
+            }
+            
+            List<Object[]> batchArgs = new ArrayList<>(changed.size());
+            for (int j = 0; j < changed.size(); j++) {
+                int i = changed.get(j);
+                Document document = documents.get(i);
                 
                 // Convert metadata to proper JSON string using ObjectMapper
                 String metadataJson;
@@ -79,82 +188,224 @@ public class ResumeVectorStoreConfig {
                     metadataJson = "{}";
                 }
                 
-                // Insert into resume_vector_store table
-                jdbcTemplate.update(
-                    "INSERT INTO resume_vector_store (id, resume_id, content, metadata, embedding) VALUES (?, ?, ?, ?::json, ?::vector)",
+                batchArgs.add(new Object[] {
                     UUID.randomUUID(),
-                    resumeId,  // Now it's a UUID
-                    document.getContent(),
-                    metadataJson,  // Properly formatted JSON
-                    vectorString
-                );
+                    resumeIds.get(i),
+                    metadataJson,
+                    convertToVectorString(embeddings.get(j)),
+                    hashes.get(i)
+                });
             }
+            
+            // Upsert into resume_vector_store; the WHERE clause guards against a concurrent
+            // writer having stored the same content in the meantime
+            jdbcTemplate.batchUpdate(
+                "INSERT INTO resume_vector_store (id, resume_id, metadata, embedding, content_hash) " +
+                "VALUES (?, ?, ?::json, ?::vector, ?) " +
+                "ON CONFLICT (resume_id) DO UPDATE SET " +
+                "metadata = EXCLUDED.metadata, " +
+                "embedding = EXCLUDED.embedding, content_hash = EXCLUDED.content_hash " +
+                "WHERE resume_vector_store.content_hash IS DISTINCT FROM EXCLUDED.content_hash",
+                batchArgs
+            );
+            
+            logger.info("Upserted {} of {} documents into vector store", changed.size(), documents.size());
         }
         
+        /**
+         * Search for the nearest resumes.
+         * Returns documents with an empty body: only the resumeId and compact metadata
+         * are read, and callers fetch the text for the candidates they actually use.
+         */
         @Override
         public List<Document> similaritySearch(SearchRequest request) {
             // Generate embedding for the query
-            float[] queryEmbedding = embeddingModel.embed(request.getQuery());
+            float[] queryEmbedding = embedQuery(request.getQuery());
             
             // Convert embedding to PostgreSQL vector format
             String vectorString = convertToVectorString(queryEmbedding);
             
             // Perform similarity search with optimized query
             // Added index hint and optimized the query for better performance
-            List<Map<String, Object>> results = jdbcTemplate.queryForList(
-                "SELECT id, resume_id, content, metadata, embedding <=> ?::vector AS distance " +
+            List<Map<String, Object>> results = searchObservation("vector").observe(() -> jdbcTemplate.queryForList(
+                "SELECT id, resume_id, metadata, embedding <=> ?::vector AS distance " +
                 "FROM resume_vector_store " +
                 "ORDER BY embedding <=> ?::vector " +
                 "LIMIT ?",
                 vectorString,
                 vectorString,
                 request.getTopK()
-            );
+            ));
             
             // Convert results to Document objects
             return results.stream()
-                .map(row -> {
-                    String content = (String) row.get("content");
-                    
-                    // Get metadata and handle different types
-                    Object metadataObj = row.get("metadata");
-                    String metadataStr;
-                    
-                    if (metadataObj instanceof PGobject) {
-                        // If it's a PGobject (PostgreSQL's JSON type), get its string value
-                        metadataStr = ((PGobject) metadataObj).getValue();
-                    } else if (metadataObj instanceof String) {
-                        // If it's already a string, use it directly
-                        metadataStr = (String) metadataObj;
-                    } else if (metadataObj != null) {
-                        // For any other non-null type, use toString()
-                        metadataStr = metadataObj.toString();
-                        logger.warn("Unexpected metadata type: {}", metadataObj.getClass().getName());
-                    } else {
-                        // Handle null case
-                        metadataStr = "{}";
-                        logger.warn("Null metadata found in search results");
-                    }
-                    
-                    // Parse metadata JSON back to a Map
-                    Map<String, Object> metadata;
-                    try {
-                        // Try to parse the JSON string back to a Map
-                        metadata = objectMapper.readValue(metadataStr, 
-                                objectMapper.getTypeFactory().constructMapType(
-                                        Map.class, String.class, Object.class));
-                    } catch (Exception e) {
-                        logger.error("Error parsing metadata JSON: {}", e.getMessage(), e);
-                        // Fallback to simple metadata if parsing fails
-                        metadata = Map.of("content", content);
-                    }
-                    
-                    // Create a new Document with the content and parsed metadata
-                    return new Document(content, metadata);
-                })
+                .map(this::toDocument)
+                .toList();
+        }
+        
+        /**
+         * Hybrid search in a single SQL statement: the nearest-neighbour candidates and the
+         * full-text candidates are ranked independently in CTEs and fused with reciprocal
+         * rank fusion, score = sum(1 / (k + rank)) over the rankings a resume appears in.
+         */
+        @Override
+        public List<Document> hybridSearch(SearchRequest request, String keywords) {
+            // Generate embedding for the query
+            String vectorString = convertToVectorString(embedQuery(request.getQuery()));
+            
+            // Without explicit keywords, match any significant term of the query (OR instead of AND)
+            boolean explicitKeywords = keywords != null && !keywords.isBlank();
+            // Each ranking must supply at least topK candidates for the fused list to fill the request
+            int candidates = Math.max(hybridCandidates, request.getTopK());
+            String keywordQuery = explicitKeywords
+                    ? "websearch_to_tsquery('simple', ?)"
+                    : "to_tsquery('simple', replace(plainto_tsquery('simple', ?)::text, ' & ', ' | '))";
+            
+            List<Map<String, Object>> results = searchObservation("hybrid").observe(() -> jdbcTemplate.queryForList(
+                "WITH semantic AS (" +
+                "  SELECT resume_id, distance, ROW_NUMBER() OVER (ORDER BY distance) AS rank " +
+                "  FROM (SELECT resume_id, embedding <=> ?::vector AS distance FROM resume_vector_store " +
+                "        ORDER BY embedding <=> ?::vector LIMIT ?) nearest" +
+                "), keyword AS (" +
+                "  SELECT resume_id, ROW_NUMBER() OVER (ORDER BY ts_score DESC) AS rank " +
+                "  FROM (SELECT rc.resume_id, ts_rank(rc.search_vector, q) AS ts_score " +
+                "        FROM resume_content rc, " + keywordQuery + " q " +
+                "        WHERE rc.search_vector @@ q ORDER BY ts_score DESC LIMIT ?) matched" +
+                "), fused AS (" +
+                "  SELECT COALESCE(s.resume_id, k.resume_id) AS resume_id, s.distance, " +
+                "         COALESCE(1.0 / (? + s.rank), 0) + COALESCE(1.0 / (? + k.rank), 0) AS rrf_score " +
+                "  FROM semantic s FULL OUTER JOIN keyword k ON s.resume_id = k.resume_id" +
+                ") " +
+                "SELECT f.resume_id, v.metadata, f.distance, f.rrf_score " +
+                "FROM fused f JOIN resume_vector_store v ON v.resume_id = f.resume_id " +
+                "ORDER BY f.rrf_score DESC " +
+                "LIMIT ?",
+                vectorString,
+                vectorString,
+                candidates,
+                explicitKeywords ? keywords : significantTerms(request.getQuery()),
+                candidates,
+                rrfK,
+                rrfK,
+                request.getTopK()
+            ));
+            
+            logger.info("Hybrid search returned {} results (keywords: {})", results.size(),
+                    explicitKeywords ? keywords : "derived from query");
+            
+            return results.stream()
+                .map(this::toDocument)
                 .toList();
         }
         
+        /**
+         * Reduce free text to its significant terms for an OR keyword query, so that words
+         * such as "the" or "with" in a job description do not match every resume.
+         * 
+         * @param text The text to reduce
+         * @return The distinct terms that are not stop words, separated by spaces
+         */
+        static String significantTerms(String text) {
+            Set<String> terms = new LinkedHashSet<>();
+            for (String term : text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}+#.]+")) {
+                term = term.replaceAll("^\\.+|\\.+$", "");
+                if (term.length() > 1 && !STOP_WORDS.contains(term)) {
+                    terms.add(term);
+                }
+            }
+            return String.join(" ", terms);
+        }
+        
+        /**
+         * Embed a search query, observing the embedding model call.
+         * 
+         * @param query The query text
+         * @return The query embedding
+         */
+        private float[] embedQuery(String query) {
+            float[] embedding = embeddingObservation("query").observe(() -> embeddingModel.embed(query));
+            meterRegistry.counter("resume.embedding.texts", "type", "query").increment();
+            return embedding;
+        }
+        
+        /**
+         * Observation of an embedding model call, recorded as the resume.embedding timer
+         * and as a span of the current trace.
+         */
+        private Observation embeddingObservation(String type) {
+            return Observation.createNotStarted("resume.embedding", observationRegistry)
+                    .contextualName("embed " + type)
+                    .lowCardinalityKeyValue("type", type);
+        }
+        
+        /**
+         * Observation of the search SQL alone, excluding the query embedding.
+         */
+        private Observation searchObservation(String mode) {
+            return Observation.createNotStarted("resume.vector.search", observationRegistry)
+                    .contextualName(mode + " search")
+                    .lowCardinalityKeyValue("mode", mode);
+        }
+        
+        /**
+         * Convert a result row into a Document without content.
+         * 
+         * @param row The row with resume_id and metadata columns, and optionally distance and rrf_score
+         * @return The document carrying the parsed metadata
+         */
+        Document toDocument(Map<String, Object> row) {
+            UUID resumeId = (UUID) row.get("resume_id");
+            
+            // Get metadata and handle different types
+            Object metadataObj = row.get("metadata");
+            String metadataStr;
+            
+            if (metadataObj instanceof PGobject) {
+                // If it's a PGobject (PostgreSQL's JSON type), get its string value
+                metadataStr = ((PGobject) metadataObj).getValue();
+            } else if (metadataObj instanceof String) {
+                // If it's already a string, use it directly
+                metadataStr = (String) metadataObj;
+            } else if (metadataObj != null) {
+                // For any other non-null type, use toString()
+                metadataStr = metadataObj.toString();
+                logger.warn("Unexpected metadata type: {}", metadataObj.getClass().getName());
+            } else {
+                // Handle null case
+                metadataStr = "{}";
+                logger.warn("Null metadata found in search results");
+            }
+            
+            // Parse metadata JSON back to a Map
+            Map<String, Object> metadata;
+            try {
+                // Try to parse the JSON string back to a Map
+                metadata = objectMapper.readValue(metadataStr, 
+                        objectMapper.getTypeFactory().constructMapType(
+                                Map.class, String.class, Object.class));
+            } catch (Exception e) {
+                logger.error("Error parsing metadata JSON: {}", e.getMessage(), e);
+                // Fallback to empty metadata if parsing fails
+                metadata = new HashMap<>();
+            }
+            
+            // The resume_id column is authoritative for the resume reference
+            metadata.put("resumeId", resumeId.toString());
+            
+            // Cosine distance to the query; absent for keyword-only hybrid hits
+            if (row.get("distance") instanceof Number distance) {
+                metadata.put("distance", distance.doubleValue());
+            }
+            
+            // Fused score of a hybrid search
+            if (row.get("rrf_score") instanceof Number rrfScore) {
+                metadata.put("rrfScore", rrfScore.doubleValue());
+            }
+            
+            // Create a new Document without content; the text is fetched on demand
+            return new Document("", metadata);
+        }
+        
         @Override
         public void accept(List<Document> documents) {
             add(documents);
@@ -190,13 +441,28 @@ public class ResumeVectorStoreConfig {
             }
         }
         
+        /**
+         * Compute the SHA-256 hash of the text that is embedded for a document.
+         * 
+         * @param text The text to hash
+         * @return The hex encoded hash
+         */
+        private String contentHash(String text) {
+            try {
+                MessageDigest digest = MessageDigest.getInstance("SHA-256");
+                return HexFormat.of().formatHex(digest.digest(text.getBytes(StandardCharsets.UTF_8)));
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException("SHA-256 not available", e);
+            }
+        }
+        
         /**
          * Convert a float array to a PostgreSQL vector string.
          * 
          * @param embedding The embedding to convert
          * @return The vector string
          */
-        private String convertToVectorString(float[] embedding) {
+        static String convertToVectorString(float[] embedding) {
             StringBuilder sb = new StringBuilder("[");
             for (int i = 0; i < embedding.length; i++) {
                 if (i > 0) {
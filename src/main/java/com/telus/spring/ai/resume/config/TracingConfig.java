@@ -0,0 +1,29 @@
+package com.telus.spring.ai.resume.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import io.opentelemetry.exporter.logging.LoggingSpanExporter;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+
+/**
+ * Configuration for exporting tracing spans.
+ * Spans go to an OTLP collector when management.otlp.tracing.endpoint is set; with
+ * resume.tracing.log-spans they are also written to the log, which is enough to read the
+ * waterfall of a single slow match request without running a collector.
+ */
+@Configuration
+public class TracingConfig {
+
+    /**
+     * Span exporter that logs each finished span with its trace ID, parent and duration.
+     *
+     * @return The span exporter
+     */
+    @Bean
+    @ConditionalOnProperty(name = "resume.tracing.log-spans", havingValue = "true")
+    public SpanExporter loggingSpanExporter() {
+        return LoggingSpanExporter.create();
+    }
+}
@@ -2,14 +2,18 @@ package com.telus.spring.ai.resume.controller;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
 import com.telus.spring.ai.resume.model.SyncResult;
 import com.telus.spring.ai.resume.scheduler.VectorStoreSyncScheduler;
+import com.telus.spring.ai.resume.service.AiCallGuard;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -25,9 +29,13 @@ public class AdminController {
     private static final Logger logger = LoggerFactory.getLogger(AdminController.class);
     
     private final VectorStoreSyncScheduler syncScheduler;
+    private final CacheManager cacheManager;
+    private final AiCallGuard aiCallGuard;
     
-    public AdminController(VectorStoreSyncScheduler syncScheduler) {
+    public AdminController(VectorStoreSyncScheduler syncScheduler, CacheManager cacheManager, AiCallGuard aiCallGuard) {
         this.syncScheduler = syncScheduler;
+        this.cacheManager = cacheManager;
+        this.aiCallGuard = aiCallGuard;
     }
     
     /**
@@ -87,6 +95,10 @@ public class AdminController {
         Map<String, Object> response = new HashMap<>();
         response.put("inProgress", syncScheduler.isSyncInProgress());
         response.put("lastSyncTime", syncScheduler.getLastSyncTime());
+        response.put("progress", Map.of(
+            "processed", syncScheduler.getSyncProcessed(),
+            "total", syncScheduler.getSyncTotal()
+        ));
         
         SyncResult lastResult = syncScheduler.getLastSyncResult();
         if (lastResult != null) {
@@ -101,4 +113,41 @@ public class AdminController {
         
         return ResponseEntity.ok(response);
     }
+    
+    /**
+     * Get statistics for the resume caches.
+     * 
+     * @return Hit ratio, hit/miss/eviction counts and size per cache
+     */
+    @GetMapping("/cache-stats")
+    public ResponseEntity<Map<String, Object>> getCacheStats() {
+        logger.info("Received request to get cache stats");
+        
+        Map<String, Object> response = new HashMap<>();
+        for (String cacheName : cacheManager.getCacheNames()) {
+            Cache cache = cacheManager.getCache(cacheName);
+            if (cache != null && cache.getNativeCache() instanceof com.github.benmanes.caffeine.cache.Cache<?, ?> nativeCache) {
+                CacheStats stats = nativeCache.stats();
+                response.put(cacheName, Map.of(
+                    "hitRatio", stats.hitRate(),
+                    "hitCount", stats.hitCount(),
+                    "missCount", stats.missCount(),
+                    "evictionCount", stats.evictionCount(),
+                    "size", nativeCache.estimatedSize()
+                ));
+            }
+        }
+        
+        return ResponseEntity.ok(response);
+    }
+    
+    /**
+     * Get the state of the circuit breaker around the AI service.
+     * 
+     * @return Breaker state, recent failure rate and p95 latency
+     */
+    @GetMapping("/ai-status")
+    public ResponseEntity<Map<String, Object>> getAiStatus() {
+        return ResponseEntity.ok(aiCallGuard.getStatus());
+    }
 }
@@ -0,0 +1,132 @@
+package com.telus.spring.ai.resume.controller;
+
+import java.net.URI;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.telus.spring.ai.resume.model.MatchJob;
+import com.telus.spring.ai.resume.model.MatchJobStatus;
+import com.telus.spring.ai.resume.model.ResumeResponse;
+import com.telus.spring.ai.resume.model.RetrievalMode;
+import com.telus.spring.ai.resume.service.MatchJobService;
+
+/**
+ * Controller for asynchronous match jobs.
+ * Submitting a job returns immediately; clients poll the job and page through its results,
+ * so large matches don't hold an HTTP connection open.
+ */
+@RestController
+@RequestMapping("/api/match-jobs")
+public class MatchJobController {
+    
+    private static final Logger logger = LoggerFactory.getLogger(MatchJobController.class);
+    
+    private final MatchJobService matchJobService;
+    
+    @Value("${resume.matching.retrieval-mode:VECTOR}")
+    private RetrievalMode defaultRetrievalMode;
+    
+    @Value("${resume.match-jobs.max-limit:500}")
+    private int maxLimit;
+    
+    public MatchJobController(MatchJobService matchJobService) {
+        this.matchJobService = matchJobService;
+    }
+    
+    /**
+     * Submit a match job.
+     * 
+     * @param jobDescription The job description to match against
+     * @param limit The maximum number of matches to return
+     * @param mode The retrieval mode, or null for the configured default
+     * @param keywords Keywords for hybrid retrieval, or null to derive them from the job description
+     * @return 202 Accepted with the queued job and its location
+     */
+    @PostMapping
+    public ResponseEntity<MatchJob> submitJob(
+            @RequestParam("jd") String jobDescription,
+            @RequestParam(value = "limit", defaultValue = "100") int limit,
+            @RequestParam(value = "mode", required = false) RetrievalMode mode,
+            @RequestParam(value = "keywords", required = false) String keywords) {
+        if (limit < 1 || limit > maxLimit) {
+            return ResponseEntity.badRequest().build();
+        }
+        
+        try {
+            MatchJob job = matchJobService.submit(jobDescription, limit,
+                    mode != null ? mode : defaultRetrievalMode, keywords);
+            return ResponseEntity.accepted()
+                    .location(URI.create("/api/match-jobs/" + job.getId()))
+                    .body(job);
+        } catch (RejectedExecutionException e) {
+            logger.warn("Match job queue is full, rejecting job");
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
+    }
+    
+    /**
+     * Get a match job with its status and progress.
+     * 
+     * @param id The ID of the job
+     * @return The job
+     */
+    @GetMapping("/{id}")
+    public ResponseEntity<MatchJob> getJob(@PathVariable UUID id) {
+        return matchJobService.getJob(id)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+    
+    /**
+     * Get a page of the results of a match job, best match first.
+     * Pass the returned nextCursor as cursor to get the next page. Jobs hold at most
+     * resume.match-jobs.max-limit results, so an offset cursor is cheap.
+     * 
+     * @param id The ID of the job
+     * @param cursor Number of results already returned, or null for the first page
+     * @param limit The page size, 1 to resume.match-jobs.max-limit
+     * @return The page of results and the cursor of the next page (null on the last page);
+     *         400 Bad Request for a negative cursor or an invalid limit,
+     *         409 Conflict if the job has not completed
+     */
+    @GetMapping("/{id}/results")
+    public ResponseEntity<Map<String, Object>> getResults(
+            @PathVariable UUID id,
+            @RequestParam(value = "cursor", required = false) Integer cursor,
+            @RequestParam(value = "limit", defaultValue = "20") int limit) {
+        if ((cursor != null && cursor < 0) || limit < 1 || limit > maxLimit) {
+            return ResponseEntity.badRequest().build();
+        }
+        MatchJob job = matchJobService.getJob(id).orElse(null);
+        if (job == null) {
+            return ResponseEntity.notFound().build();
+        }
+        if (job.getStatus() != MatchJobStatus.COMPLETED) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        }
+        
+        int offset = cursor != null ? cursor : 0;
+        List<ResumeResponse> items = matchJobService.getResults(id, offset, limit);
+        
+        Map<String, Object> response = new HashMap<>();
+        response.put("items", items);
+        response.put("nextCursor", items.size() == limit ? offset + limit : null);
+        
+        return ResponseEntity.ok(response);
+    }
+}
@@ -1,13 +1,24 @@
 package com.telus.spring.ai.resume.controller;
 
 import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
 import java.util.stream.Collectors;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -17,19 +28,26 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.async.DeferredResult;
 import org.springframework.web.multipart.MultipartFile;
 
 import com.telus.spring.ai.resume.model.Resume;
 import com.telus.spring.ai.resume.model.ResumeMatch;
 import com.telus.spring.ai.resume.model.ResumeResponse;
+import com.telus.spring.ai.resume.model.ResumeSearchHit;
+import com.telus.spring.ai.resume.model.ResumeSummary;
+import com.telus.spring.ai.resume.model.RetrievalMode;
+import com.telus.spring.ai.resume.service.AiCallGuard;
+import com.telus.spring.ai.resume.service.CallPriority;
 import com.telus.spring.ai.resume.service.ResumeMatchingService;
 import com.telus.spring.ai.resume.service.ResumeStorageService;
+import com.telus.spring.ai.resume.service.TooManyMatchesException;
 import com.telus.spring.ai.resume.service.impl.ResumeMatchingServiceImpl;
 
 /**
  * Controller for resume matching endpoints.
  * Simplified to focus only on matching functionality without file uploads.
- * Uses synchronous endpoints with optimized internal processing.
+ * Matching runs asynchronously so request threads are not held during AI calls.
  * @param <ResumeParserService>
  */
 @RestController
@@ -42,13 +60,38 @@ public class ResumeController{
     private final ResumeMatchingService matchingService;
     private final com.telus.spring.ai.resume.service.ResumeParserService parserService;
     
+    @Autowired
+    private AiCallGuard aiCallGuard;
+    
+    @Value("${resume.matching.parallelism:10}")
+    private int matchingParallelism;
+    
+    @Value("${resume.matching.retrieval-mode:VECTOR}")
+    private RetrievalMode defaultRetrievalMode;
+    
+    @Value("${resume.matching.retry-after-seconds:5}")
+    private int retryAfterSeconds;
+    
+    @Value("${resume.list.max-limit:100}")
+    private int maxListLimit;
+    
+    @Value("${resume.matching.max-limit:20}")
+    private int maxMatchLimit;
+    
+    @Value("${resume.upload.max-files:50}")
+    private int maxUploadFiles;
+    
+    private final Semaphore matchPermits;
+    
     public ResumeController(
     		com.telus.spring.ai.resume.service.ResumeParserService parserService,
             ResumeStorageService storageService,
-            ResumeMatchingService matchingService) {
+            ResumeMatchingService matchingService,
+            @Value("${resume.matching.max-concurrent-requests:20}") int maxConcurrentMatches) {
         this.storageService = storageService;
         this.matchingService = matchingService;
 		this.parserService = parserService;
+        this.matchPermits = new Semaphore(maxConcurrentMatches);
     }
     
     
@@ -81,23 +124,129 @@ public class ResumeController{
         }
     }
     
+    /**
+     * Upload many resumes at once.
+     * The files are parsed in parallel and the parsed resumes are stored together with
+     * set-based upserts. Files that cannot be parsed are reported and do not stop the others.
+     *
+     * @param files The resume files to upload, 1 to resume.upload.max-files
+     * @return The stored resumes and the names of the files that could not be parsed;
+     *         400 Bad Request for no files or too many files
+     */
+    @PostMapping(value = "/batch", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<Map<String, Object>> uploadResumes(@RequestParam("files") List<MultipartFile> files) {
+        logger.info("Uploading {} resumes", files.size());
+        if (files.isEmpty() || files.size() > maxUploadFiles) {
+            return ResponseEntity.badRequest().build();
+        }
+    
+        List<CompletableFuture<com.telus.spring.ai.resume.model.ResumeParseResult>> parses =
+                parserService.parseResumesInParallel(files);
+    
+        List<com.telus.spring.ai.resume.model.ResumeParseResult> parseResults = new ArrayList<>();
+        List<MultipartFile> parsedFiles = new ArrayList<>();
+        List<String> failed = new ArrayList<>();
+        for (int i = 0; i < files.size(); i++) {
+            try {
+                parseResults.add(parses.get(i).join());
+                parsedFiles.add(files.get(i));
+            } catch (CompletionException e) {
+                logger.error("Error parsing resume: {}", files.get(i).getOriginalFilename(), e.getCause());
+                failed.add(files.get(i).getOriginalFilename());
+            }
+        }
+    
+        List<Resume> resumes = parseResults.isEmpty()
+                ? List.of()
+                : storageService.storeResumes(parseResults, parsedFiles);
+        logger.info("Uploaded {} resumes, {} failed", resumes.size(), failed.size());
+    
+        Map<String, Object> response = new HashMap<>();
+        response.put("resumes", resumes.stream().map(ResumeResponse::new).collect(Collectors.toList()));
+        response.put("failed", failed);
+    
+        return ResponseEntity.ok(response);
+    }
+    
     /**
      * Match resumes to a job description.
-     * This endpoint is synchronous but uses optimized internal parallel processing.
+     * This endpoint is asynchronous: the request thread is released while the candidates
+     * are scored on the AI executor. Requests are shed with Retry-After when too many
+     * matches are running (429) or the interactive AI lane cannot take this one (503).
+     * Only requests that start a new match count against the concurrent-match limit; an
+     * identical request joining a running match shares its work and takes no permit.
+     * When the servlet async timeout expires or the client disconnects, the queued and
+     * in-flight work of the request is cancelled.
      * 
      * @param jobDescription The job description to match against
-     * @param limit The maximum number of matches to return
-     * @return A list of resume matches
+     * @param limit The maximum number of matches to return, 1 to resume.matching.max-limit
+     * @param mode The retrieval mode, or null for the configured default
+     * @param keywords Keywords for hybrid retrieval, or null to derive them from the job description
+     * @return A list of resume matches; 400 Bad Request for an invalid limit, with a Link
+     *         to the match jobs API, which takes larger limits
      */
     @PostMapping("/match")
-    public ResponseEntity<List<ResumeResponse>> matchResumes(
+    public DeferredResult<ResponseEntity<List<ResumeResponse>>> matchResumes(
             @RequestParam("jd") String jobDescription,
-            @RequestParam(value = "limit", defaultValue = "5") int limit) {
+            @RequestParam(value = "limit", defaultValue = "5") int limit,
+            @RequestParam(value = "mode", required = false) RetrievalMode mode,
+            @RequestParam(value = "keywords", required = false) String keywords) {
+        logger.info("Matching resumes to job description, limit: {}, mode: {}", limit, mode);
+        DeferredResult<ResponseEntity<List<ResumeResponse>>> result = new DeferredResult<>();
+        
+        if (limit < 1 || limit > maxMatchLimit) {
+            result.setResult(ResponseEntity.badRequest()
+                    .header(HttpHeaders.LINK, "</api/match-jobs>; rel=\"alternate\"")
+                    .build());
+            return result;
+        }
+        
+        // A match keeps up to resume.matching.parallelism AI calls in the interactive lane
+        if (aiCallGuard.availableCapacity(CallPriority.INTERACTIVE) < Math.min(limit, matchingParallelism)) {
+            logger.warn("Interactive AI lane is saturated, rejecting match request");
+            result.setResult(retryLater(HttpStatus.SERVICE_UNAVAILABLE));
+            return result;
+        }
+        
+        CompletableFuture<List<ResumeMatch>> future;
         try {
-            logger.info("Matching resumes to job description, limit: {}", limit);
-            
-            // Find matching resumes - this method is internally optimized for parallel processing
-            List<ResumeMatch> matches = matchingService.findMatchingResumes(jobDescription, limit);
+            future = matchingService.findMatchingResumesAsync(jobDescription, limit,
+                    mode != null ? mode : defaultRetrievalMode, keywords, matchPermits);
+        } catch (TooManyMatchesException e) {
+            logger.warn("Too many concurrent match requests, rejecting match request");
+            result.setResult(retryLater(HttpStatus.TOO_MANY_REQUESTS));
+            return result;
+        } catch (RejectedExecutionException e) {
+            logger.warn("Matching executor is saturated, rejecting match request");
+            result.setResult(retryLater(HttpStatus.SERVICE_UNAVAILABLE));
+            return result;
+        }
+        
+        // Nobody will read the response: stop scoring candidates
+        result.onTimeout(() -> {
+            logger.warn("Match request timed out, cancelling its work");
+            future.cancel(true);
+        });
+        result.onError(ex -> {
+            logger.info("Match request aborted ({}), cancelling its work", ex.toString());
+            future.cancel(true);
+        });
+        
+        future.whenComplete((matches, ex) -> {
+            if (future.isCancelled()) {
+                return;
+            }
+            Throwable cause = ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex;
+            if (cause instanceof TooManyMatchesException) {
+                // Joined an identical request that could not start
+                result.setResult(retryLater(HttpStatus.TOO_MANY_REQUESTS));
+                return;
+            }
+            if (ex != null) {
+                logger.error("Error matching resumes", ex);
+                result.setResult(ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build());
+                return;
+            }
             
             // Convert to response objects with match information
             List<ResumeResponse> responses = matches.stream()
@@ -105,17 +254,101 @@ public class ResumeController{
                         ResumeResponse response = new ResumeResponse(match.getResume());
                         response.setMatchScore(match.getScore());
                         response.setMatchExplanation(match.getExplanation());
+                        response.setSimilarity(match.getSimilarity());
+                        response.setMatchScoreEstimated(match.isEstimated());
                         return response;
                     })
                     .collect(Collectors.toList());
             
             logger.info("Found {} matching resumes", responses.size());
             
-            return ResponseEntity.ok(responses);
-        } catch (Exception e) {
-            logger.error("Error matching resumes", e);
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+            result.setResult(ResponseEntity.ok(responses));
+        });
+        return result;
+    }
+    
+    /**
+     * Build a response asking the client to retry after a while.
+     * 
+     * @param status 429 or 503
+     * @return An empty response with a Retry-After header
+     */
+    private <T> ResponseEntity<T> retryLater(HttpStatus status) {
+        return ResponseEntity.status(status)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds))
+                .build();
+    }
+    
+    /**
+     * List resumes with keyset pagination, newest first.
+     * Returns lightweight summaries; pass the returned nextCursor to get the next page.
+     * 
+     * @param cursor The cursor of the previous page, or null for the first page
+     * @param limit The maximum number of resumes to return, 1 to resume.list.max-limit
+     * @return The resumes and the cursor of the next page (null when there are no more pages);
+     *         400 Bad Request for an invalid cursor or limit
+     */
+    @GetMapping
+    public ResponseEntity<Map<String, Object>> listResumes(
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "limit", defaultValue = "20") int limit) {
+        logger.info("Listing resumes, cursor: {}, limit: {}", cursor, limit);
+        if (limit < 1 || limit > maxListLimit) {
+            return ResponseEntity.badRequest().build();
+        }
+        
+        LocalDateTime afterUploadedAt = null;
+        UUID afterId = null;
+        if (cursor != null && !cursor.isBlank()) {
+            try {
+                // Cursor format: <uploadedAt>_<id>
+                int separator = cursor.lastIndexOf('_');
+                afterUploadedAt = LocalDateTime.parse(cursor.substring(0, separator));
+                afterId = UUID.fromString(cursor.substring(separator + 1));
+            } catch (RuntimeException e) {
+                logger.warn("Invalid cursor: {}", cursor);
+                return ResponseEntity.badRequest().build();
+            }
+        }
+        
+        List<ResumeSummary> summaries = storageService.getResumeSummaries(afterUploadedAt, afterId, limit);
+        
+        List<ResumeResponse> items = summaries.stream()
+                .map(ResumeResponse::new)
+                .collect(Collectors.toList());
+        
+        String nextCursor = null;
+        if (summaries.size() == limit) {
+            ResumeSummary last = summaries.get(summaries.size() - 1);
+            nextCursor = last.getUploadedAt() + "_" + last.getId();
         }
+        
+        Map<String, Object> response = new HashMap<>();
+        response.put("items", items);
+        response.put("nextCursor", nextCursor);
+        
+        return ResponseEntity.ok(response);
+    }
+    
+    /**
+     * Search resumes by keywords.
+     * Uses the full-text index only, without calling the embedding or chat models.
+     * 
+     * @param query The keywords to search for (web search syntax)
+     * @param limit The maximum number of hits to return, 1 to resume.list.max-limit
+     * @return The search hits with rank and highlighted preview, most relevant first;
+     *         400 Bad Request for an invalid limit
+     */
+    @GetMapping("/search")
+    public ResponseEntity<List<ResumeSearchHit>> searchResumes(
+            @RequestParam("q") String query,
+            @RequestParam(value = "limit", defaultValue = "20") int limit) {
+        logger.info("Searching resumes for: {}", query);
+        if (limit < 1 || limit > maxListLimit) {
+            return ResponseEntity.badRequest().build();
+        }
+        
+        return ResponseEntity.ok(storageService.searchResumes(query, limit));
     }
     
     /**
@@ -150,7 +383,7 @@ public class ResumeController{
             @RequestParam("jd") String jobDescription) {
         logger.info("Getting match for resume: {} and job description", id);
         
-        Optional<Resume> resumeOpt = storageService.getResumeById(id);
+        Optional<Resume> resumeOpt = storageService.getResumeWithContent(id);
         if (resumeOpt.isEmpty()) {
             return ResponseEntity.notFound().build();
         }
@@ -164,7 +397,7 @@ public class ResumeController{
             // Extract score from the explanation
             int score = 0;
             if (matchingService instanceof ResumeMatchingServiceImpl) {
-                score = ((ResumeMatchingServiceImpl) matchingService).extractScoreFromExplanation(explanation);
+                score = ResumeMatchingServiceImpl.extractScoreFromExplanation(explanation);
             }
             
             ResumeMatch match = new ResumeMatch(resume, score, explanation);
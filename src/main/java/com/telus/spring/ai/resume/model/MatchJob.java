@@ -0,0 +1,112 @@
+package com.telus.spring.ai.resume.model;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * An asynchronous match of resumes against a job description, with its progress.
+ */
+public class MatchJob {
+    
+    private UUID id;
+    private MatchJobStatus status;
+    private int limit;
+    private RetrievalMode retrievalMode;
+    private Integer total;
+    private int completed;
+    private String error;
+    private LocalDateTime createdAt;
+    private LocalDateTime finishedAt;
+    
+    // Getters and setters
+    public UUID getId() {
+        return id;
+    }
+    
+    public void setId(UUID id) {
+        this.id = id;
+    }
+    
+    public MatchJobStatus getStatus() {
+        return status;
+    }
+    
+    public void setStatus(MatchJobStatus status) {
+        this.status = status;
+    }
+    
+    public int getLimit() {
+        return limit;
+    }
+    
+    public void setLimit(int limit) {
+        this.limit = limit;
+    }
+    
+    public RetrievalMode getRetrievalMode() {
+        return retrievalMode;
+    }
+    
+    public void setRetrievalMode(RetrievalMode retrievalMode) {
+        this.retrievalMode = retrievalMode;
+    }
+    
+    /**
+     * Number of candidates being scored, or null until they have been retrieved.
+     */
+    public Integer getTotal() {
+        return total;
+    }
+    
+    public void setTotal(Integer total) {
+        this.total = total;
+    }
+    
+    /**
+     * Number of candidates scored so far.
+     */
+    public int getCompleted() {
+        return completed;
+    }
+    
+    public void setCompleted(int completed) {
+        this.completed = completed;
+    }
+    
+    public String getError() {
+        return error;
+    }
+    
+    public void setError(String error) {
+        this.error = error;
+    }
+    
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+    
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+    
+    public LocalDateTime getFinishedAt() {
+        return finishedAt;
+    }
+    
+    public void setFinishedAt(LocalDateTime finishedAt) {
+        this.finishedAt = finishedAt;
+    }
+    
+    @Override
+    public String toString() {
+        return "MatchJob{" +
+                "id=" + id +
+                ", status=" + status +
+                ", limit=" + limit +
+                ", retrievalMode=" + retrievalMode +
+                ", total=" + total +
+                ", completed=" + completed +
+                ", error='" + error + '\'' +
+                '}';
+    }
+}
@@ -0,0 +1,27 @@
+package com.telus.spring.ai.resume.model;
+
+/**
+ * Lifecycle of an asynchronous match job.
+ */
+public enum MatchJobStatus {
+    
+    /**
+     * Accepted and waiting for a worker.
+     */
+    QUEUED,
+    
+    /**
+     * Candidates are being retrieved and scored.
+     */
+    RUNNING,
+    
+    /**
+     * Finished; the ranked results are available.
+     */
+    COMPLETED,
+    
+    /**
+     * Finished with an error; see the job's error message.
+     */
+    FAILED
+}
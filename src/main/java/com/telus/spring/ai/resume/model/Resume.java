@@ -8,6 +8,7 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
 
 /**
  * Entity class representing a resume in the system.
@@ -29,7 +30,8 @@ public class Resume {
     @Column(name = "phone_number", nullable = false)
     private String phoneNumber;
     
-    @Column(name = "full_text", columnDefinition = "TEXT")
+    // Stored in the resume_content table and only loaded on demand
+    @Transient
     private String fullText;
     
     @Column(name = "uploaded_at", nullable = false)
@@ -61,6 +63,19 @@ public class Resume {
         this.updatedAt = LocalDateTime.now();
     }
     
+    // Copy constructor, used to modify resumes obtained from the cache
+    public Resume(Resume other) {
+        this.id = other.id;
+        this.name = other.name;
+        this.email = other.email;
+        this.phoneNumber = other.phoneNumber;
+        this.fullText = other.fullText;
+        this.uploadedAt = other.uploadedAt;
+        this.updatedAt = other.updatedAt;
+        this.fileType = other.fileType;
+        this.originalFileName = other.originalFileName;
+    }
+    
     // Getters and setters
     public UUID getId() {
         return id;
@@ -0,0 +1,17 @@
+package com.telus.spring.ai.resume.model;
+
+/**
+ * Type of change recorded in the resume_changes outbox.
+ */
+public enum ResumeChangeType {
+    
+    /**
+     * The resume was created or updated and must be (re-)embedded.
+     */
+    UPSERT,
+    
+    /**
+     * The resume was deleted and its vector entry must be removed.
+     */
+    DELETE
+}
@@ -0,0 +1,59 @@
+package com.telus.spring.ai.resume.model;
+
+import java.util.UUID;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+/**
+ * Entity class holding the full text of a resume.
+ * Kept in its own table so that loading a {@link Resume} does not pull the whole text.
+ */
+@Entity
+@Table(name = "resume_content")
+public class ResumeContent {
+    
+    @Id
+    @Column(name = "resume_id")
+    private UUID resumeId;
+    
+    @Column(name = "full_text", columnDefinition = "TEXT")
+    private String fullText;
+    
+    // Default constructor
+    public ResumeContent() {
+    }
+    
+    // Constructor with fields
+    public ResumeContent(UUID resumeId, String fullText) {
+        this.resumeId = resumeId;
+        this.fullText = fullText;
+    }
+    
+    // Getters and setters
+    public UUID getResumeId() {
+        return resumeId;
+    }
+    
+    public void setResumeId(UUID resumeId) {
+        this.resumeId = resumeId;
+    }
+    
+    public String getFullText() {
+        return fullText;
+    }
+    
+    public void setFullText(String fullText) {
+        this.fullText = fullText;
+    }
+    
+    @Override
+    public String toString() {
+        return "ResumeContent{" +
+                "resumeId=" + resumeId +
+                ", fullTextLength=" + (fullText != null ? fullText.length() : 0) +
+                '}';
+    }
+}
@@ -8,6 +8,8 @@ public class ResumeMatch {
     private Resume resume;
     private Integer score;
     private String explanation;
+    private Double similarity;
+    private boolean estimated;
     
     // Default constructor
     public ResumeMatch() {
@@ -45,12 +47,38 @@ public class ResumeMatch {
         this.explanation = explanation;
     }
     
+    /**
+     * Semantic similarity between the resume and the job description (1 - cosine distance),
+     * or null when the resume was retrieved by keywords only.
+     */
+    public Double getSimilarity() {
+        return similarity;
+    }
+    
+    public void setSimilarity(Double similarity) {
+        this.similarity = similarity;
+    }
+    
+    /**
+     * Whether the score was estimated from the similarity because the AI explanation
+     * was unavailable.
+     */
+    public boolean isEstimated() {
+        return estimated;
+    }
+    
+    public void setEstimated(boolean estimated) {
+        this.estimated = estimated;
+    }
+    
     @Override
     public String toString() {
         return "ResumeMatch{" +
                 "resume=" + resume +
                 ", score=" + score +
                 ", explanation='" + explanation + '\'' +
+                ", similarity=" + similarity +
+                ", estimated=" + estimated +
                 '}';
     }
 }
@@ -18,6 +18,8 @@ public class ResumeResponse {
     private String originalFileName;
     private Integer matchScore;
     private String matchExplanation;
+    private Double similarity;
+    private boolean matchScoreEstimated;
     
     // Default constructor
     public ResumeResponse() {
@@ -34,6 +36,17 @@ public class ResumeResponse {
         this.originalFileName = resume.getOriginalFileName();
     }
     
+    // Constructor from ResumeSummary projection
+    public ResumeResponse(ResumeSummary summary) {
+        this.id = summary.getId();
+        this.name = summary.getName();
+        this.email = summary.getEmail();
+        this.phoneNumber = summary.getPhoneNumber();
+        this.uploadedAt = summary.getUploadedAt();
+        this.fileType = summary.getFileType();
+        this.originalFileName = summary.getOriginalFileName();
+    }
+    
     // Getters and setters
     public UUID getId() {
         return id;
@@ -107,6 +120,22 @@ public class ResumeResponse {
         this.matchExplanation = matchExplanation;
     }
     
+    public Double getSimilarity() {
+        return similarity;
+    }
+    
+    public void setSimilarity(Double similarity) {
+        this.similarity = similarity;
+    }
+    
+    public boolean isMatchScoreEstimated() {
+        return matchScoreEstimated;
+    }
+    
+    public void setMatchScoreEstimated(boolean matchScoreEstimated) {
+        this.matchScoreEstimated = matchScoreEstimated;
+    }
+    
     @Override
     public String toString() {
         return "ResumeResponse{" +
@@ -118,6 +147,8 @@ public class ResumeResponse {
                 ", fileType='" + fileType + '\'' +
                 ", originalFileName='" + originalFileName + '\'' +
                 ", matchScore=" + matchScore +
+                ", similarity=" + similarity +
+                ", matchScoreEstimated=" + matchScoreEstimated +
                 ", matchExplanation='" + (matchExplanation != null ? "present" : "null") + '\'' +
                 '}';
     }
@@ -0,0 +1,17 @@
+package com.telus.spring.ai.resume.model;
+
+/**
+ * A resume found by keyword search.
+ * The preview holds a highlighted snippet of the matching text, with the
+ * matched terms wrapped in &lt;mark&gt; tags. The rest of the snippet is the
+ * raw resume text, so it must be escaped or rendered as text, not as HTML.
+ */
+public interface ResumeSearchHit extends ResumeSummary {
+    
+    /**
+     * Get the full-text search rank of the hit; higher is more relevant.
+     * 
+     * @return The ts_rank of the resume text for the query
+     */
+    Double getRank();
+}
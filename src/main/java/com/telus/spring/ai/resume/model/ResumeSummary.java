@@ -0,0 +1,34 @@
+package com.telus.spring.ai.resume.model;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Lightweight projection of a resume for listings.
+ * Carries a short text preview instead of the full resume text.
+ */
+public interface ResumeSummary {
+    
+    UUID getId();
+    
+    String getName();
+    
+    String getEmail();
+    
+    String getPhoneNumber();
+    
+    LocalDateTime getUploadedAt();
+    
+    LocalDateTime getUpdatedAt();
+    
+    String getFileType();
+    
+    String getOriginalFileName();
+    
+    /**
+     * Get the first characters of the resume text.
+     * 
+     * @return The text preview, or null if the resume has no text
+     */
+    String getPreview();
+}
@@ -0,0 +1,17 @@
+package com.telus.spring.ai.resume.model;
+
+/**
+ * How candidate resumes are retrieved before they are scored.
+ */
+public enum RetrievalMode {
+    
+    /**
+     * Nearest neighbours of the job description embedding only.
+     */
+    VECTOR,
+    
+    /**
+     * Vector and full-text keyword results fused with reciprocal rank fusion.
+     */
+    HYBRID
+}
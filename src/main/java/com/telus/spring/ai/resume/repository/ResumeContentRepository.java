@@ -0,0 +1,15 @@
+package com.telus.spring.ai.resume.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import com.telus.spring.ai.resume.model.ResumeContent;
+
+import java.util.UUID;
+
+/**
+ * Repository for ResumeContent entities.
+ */
+@Repository
+public interface ResumeContentRepository extends JpaRepository<ResumeContent, UUID> {
+}
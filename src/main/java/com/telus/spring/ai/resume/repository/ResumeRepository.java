@@ -1,11 +1,18 @@
 package com.telus.spring.ai.resume.repository;
 
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.telus.spring.ai.resume.config.CacheConfig;
 import com.telus.spring.ai.resume.model.Resume;
+import com.telus.spring.ai.resume.model.ResumeSearchHit;
+import com.telus.spring.ai.resume.model.ResumeSummary;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -16,21 +23,102 @@ import java.util.UUID;
 @Repository
 public interface ResumeRepository extends JpaRepository<Resume, UUID> {
     
+    /**
+     * Find a resume by ID.
+     * Cached; entries are evicted by ResumeStorageService when the resume changes.
+     * Cached instances are shared, so callers must copy before modifying them.
+     * 
+     * @param id The ID to search for
+     * @return The resume, if found
+     */
+    @Override
+    @Cacheable(cacheNames = CacheConfig.RESUMES_BY_ID, key = "#p0", unless = "#result == null")
+    Optional<Resume> findById(UUID id);
+    
     /**
      * Find a resume by name, email, and phone number.
+     * Cached under the default key of all three arguments, so that values containing
+     * separators cannot collide; entries are evicted by ResumeStorageService when the
+     * resume changes.
      * 
      * @param name The name to search for
      * @param email The email to search for
      * @param phoneNumber The phone number to search for
      * @return The resume, if found
      */
+    @Cacheable(cacheNames = CacheConfig.RESUMES_BY_NATURAL_KEY, unless = "#result == null")
     Optional<Resume> findByNameAndEmailAndPhoneNumber(String name, String email, String phoneNumber);
     
     /**
-     * Get all resume IDs.
+     * Get the first page of resume summaries, newest first.
      * 
-     * @return A list of all resume IDs
+     * @param limit The maximum number of summaries to return
+     * @return The resume summaries ordered by upload time and ID, descending
+     */
+    @Query("SELECT " + SUMMARY_COLUMNS + " FROM Resume r " + SUMMARY_JOIN +
+           "ORDER BY r.uploadedAt DESC, r.id DESC")
+    List<ResumeSummary> findSummaries(Limit limit);
+    
+    /**
+     * Get the page of resume summaries that follows the given keyset position.
+     * Seeks directly to the position instead of skipping rows with OFFSET; the row
+     * comparison is a single range condition on the (uploaded_at DESC, id DESC) index.
+     * 
+     * @param uploadedAt The upload time of the last summary of the previous page
+     * @param id The ID of the last summary of the previous page
+     * @param limit The maximum number of summaries to return
+     * @return The resume summaries ordered by upload time and ID, descending
+     */
+    @Query(value = "SELECT r.id AS \"id\", r.name AS \"name\", r.email AS \"email\", " +
+                   "r.phone_number AS \"phoneNumber\", r.uploaded_at AS \"uploadedAt\", " +
+                   "r.updated_at AS \"updatedAt\", r.file_type AS \"fileType\", " +
+                   "r.original_file_name AS \"originalFileName\", substring(c.full_text, 1, 201) AS \"preview\" " +
+                   "FROM resumes r LEFT JOIN resume_content c ON c.resume_id = r.id " +
+                   "WHERE (r.uploaded_at, r.id) < (:uploadedAt, :id) " +
+                   "ORDER BY r.uploaded_at DESC, r.id DESC " +
+                   "LIMIT :limit",
+           nativeQuery = true)
+    List<ResumeSummary> findSummariesAfter(@Param("uploadedAt") LocalDateTime uploadedAt,
+                                           @Param("id") UUID id,
+                                           @Param("limit") int limit);
+    
+    /**
+     * Search resumes by keywords using the full-text index on resume_content.
+     * Supports web search syntax (quoted phrases, OR, -exclusion). Results are ordered
+     * by ts_rank; highlighting is only computed for the returned rows.
+     * 
+     * @param query The keywords to search for
+     * @param limit The maximum number of hits to return
+     * @return The search hits, most relevant first
+     */
+    @Query(value = "SELECT r.id AS \"id\", r.name AS \"name\", r.email AS \"email\", " +
+                   "r.phone_number AS \"phoneNumber\", r.uploaded_at AS \"uploadedAt\", " +
+                   "r.updated_at AS \"updatedAt\", r.file_type AS \"fileType\", " +
+                   "r.original_file_name AS \"originalFileName\", hits.rank AS \"rank\", " +
+                   "ts_headline('simple', c.full_text, hits.query, " +
+                   "'StartSel=<mark>, StopSel=</mark>, MaxFragments=2, MaxWords=20, MinWords=5') AS \"preview\" " +
+                   "FROM (" +
+                   "  SELECT rc.resume_id, CAST(ts_rank(rc.search_vector, q) AS double precision) AS rank, q AS query " +
+                   "  FROM resume_content rc, websearch_to_tsquery('simple', :query) q " +
+                   "  WHERE rc.search_vector @@ q " +
+                   "  ORDER BY rank DESC " +
+                   "  LIMIT :limit" +
+                   ") hits " +
+                   "JOIN resumes r ON r.id = hits.resume_id " +
+                   "JOIN resume_content c ON c.resume_id = hits.resume_id " +
+                   "ORDER BY hits.rank DESC",
+           nativeQuery = true)
+    List<ResumeSearchHit> searchByKeywords(@Param("query") String query, @Param("limit") int limit);
+    
+    /**
+     * Columns selected for {@link ResumeSummary} projections.
+     */
+    String SUMMARY_COLUMNS = "r.id AS id, r.name AS name, r.email AS email, r.phoneNumber AS phoneNumber, " +
+            "r.uploadedAt AS uploadedAt, r.updatedAt AS updatedAt, r.fileType AS fileType, " +
+            "r.originalFileName AS originalFileName, SUBSTRING(c.fullText, 1, 200) AS preview";
+    
+    /**
+     * Join providing the resume text for the {@link ResumeSummary} preview.
      */
-    @Query("SELECT r.id FROM Resume r")
-    List<UUID> findAllIds();
+    String SUMMARY_JOIN = "LEFT JOIN ResumeContent c ON c.resumeId = r.id ";
 }
@@ -0,0 +1,48 @@
+package com.telus.spring.ai.resume.scheduler;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.telus.spring.ai.resume.service.MatchJobService;
+
+import java.time.Duration;
+
+/**
+ * Housekeeping of background match jobs. Runs at startup and then periodically:
+ * jobs left queued or running by a stopped instance are failed once they have made no
+ * progress for resume.match-jobs.stale-after-minutes, and finished jobs are deleted with
+ * their results after resume.match-jobs.retention-hours.
+ */
+@Component
+public class MatchJobCleanupScheduler {
+    
+    private static final Logger logger = LoggerFactory.getLogger(MatchJobCleanupScheduler.class);
+    
+    private final MatchJobService matchJobService;
+    
+    @Value("${resume.match-jobs.stale-after-minutes:30}")
+    private long staleAfterMinutes;
+    
+    @Value("${resume.match-jobs.retention-hours:168}")
+    private long retentionHours;
+    
+    public MatchJobCleanupScheduler(MatchJobService matchJobService) {
+        this.matchJobService = matchJobService;
+    }
+    
+    /**
+     * Fail stale jobs and delete expired ones; the first run is at startup.
+     */
+    @Scheduled(initialDelay = 0, fixedDelayString = "${resume.match-jobs.cleanup-interval-ms:600000}")
+    public void cleanUp() {
+        try {
+            matchJobService.failStaleJobs(Duration.ofMinutes(staleAfterMinutes));
+            matchJobService.deleteExpiredJobs(Duration.ofHours(retentionHours));
+        } catch (Exception e) {
+            logger.error("Error cleaning up match jobs", e);
+        }
+    }
+}
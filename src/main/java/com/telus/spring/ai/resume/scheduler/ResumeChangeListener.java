@@ -0,0 +1,131 @@
+package com.telus.spring.ai.resume.scheduler;
+
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PreDestroy;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Listens on the Postgres resume_changes notification channel and wakes the
+ * outbox worker as soon as a resume change is committed.
+ * Uses a dedicated connection outside the pool; bursts of notifications are
+ * coalesced into a single drain, and if the connection drops the worker polls
+ * at the short interval until the listener reconnects.
+ */
+@Component
+public class ResumeChangeListener {
+    
+    private static final Logger logger = LoggerFactory.getLogger(ResumeChangeListener.class);
+    private static final String CHANNEL = "resume_changes";
+    private static final int LISTEN_TIMEOUT_MS = 1000;
+    
+    private final DataSourceProperties dataSourceProperties;
+    private final ResumeChangeScheduler changeScheduler;
+    private volatile boolean running = false;
+    private Thread listenerThread;
+    
+    @Value("${resume.outbox.listen.enabled:true}")
+    private boolean enabled;
+    
+    @Value("${resume.outbox.listen.debounce-ms:250}")
+    private long debounceMs;
+    
+    @Value("${resume.outbox.listen.reconnect-delay-ms:10000}")
+    private long reconnectDelayMs;
+    
+    public ResumeChangeListener(DataSourceProperties dataSourceProperties, ResumeChangeScheduler changeScheduler) {
+        this.dataSourceProperties = dataSourceProperties;
+        this.changeScheduler = changeScheduler;
+    }
+    
+    /**
+     * Start listening once the application (and its schema) is ready.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled) {
+            logger.info("Resume change notifications disabled, outbox worker will poll");
+            return;
+        }
+        
+        running = true;
+        listenerThread = new Thread(this::listenLoop, "ResumeChangeListener");
+        listenerThread.setDaemon(true);
+        listenerThread.start();
+    }
+    
+    /**
+     * Stop listening and close the notification connection.
+     */
+    @PreDestroy
+    public void stop() {
+        running = false;
+        if (listenerThread != null) {
+            listenerThread.interrupt();
+        }
+    }
+    
+    /**
+     * Keep a LISTEN connection open, reconnecting after failures.
+     */
+    private void listenLoop() {
+        while (running) {
+            try (Connection connection = DriverManager.getConnection(
+                    dataSourceProperties.determineUrl(),
+                    dataSourceProperties.determineUsername(),
+                    dataSourceProperties.determinePassword())) {
+                
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + CHANNEL);
+                }
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                
+                logger.info("Listening for resume change notifications on channel '{}'", CHANNEL);
+                changeScheduler.setNotificationsActive(true);
+                
+                // Pick up anything committed while we were not listening
+                changeScheduler.requestDrain();
+                
+                while (running) {
+                    PGNotification[] notifications = pgConnection.getNotifications(LISTEN_TIMEOUT_MS);
+                    if (notifications != null && notifications.length > 0) {
+                        // Let the burst settle, then swallow whatever arrived meanwhile
+                        Thread.sleep(debounceMs);
+                        pgConnection.getNotifications(1);
+                        changeScheduler.requestDrain();
+                    }
+                }
+            } catch (SQLException e) {
+                logger.warn("Resume change notification connection lost, falling back to polling: {}", e.getMessage());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } finally {
+                changeScheduler.setNotificationsActive(false);
+            }
+            
+            if (running) {
+                try {
+                    Thread.sleep(reconnectDelayMs);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+            }
+        }
+        
+        logger.info("Resume change listener stopped");
+    }
+}
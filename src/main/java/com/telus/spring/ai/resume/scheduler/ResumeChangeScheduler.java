@@ -0,0 +1,135 @@
+package com.telus.spring.ai.resume.scheduler;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.telus.spring.ai.resume.service.ResumeStorageService;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Background worker that drains the resume_changes outbox.
+ * New, updated and deleted resumes reach the vector store within seconds
+ * instead of waiting for the nightly full synchronization.
+ * 
+ * The worker is normally woken by {@link ResumeChangeListener} through Postgres
+ * LISTEN/NOTIFY. Polling continues as a safety net for missed notifications and for
+ * changes waiting for a retry, less often while the listener is connected. A drain
+ * that fails is retried with exponential backoff.
+ */
+@Component
+public class ResumeChangeScheduler {
+    
+    private static final Logger logger = LoggerFactory.getLogger(ResumeChangeScheduler.class);
+    
+    private final ResumeStorageService storageService;
+    private final AtomicBoolean draining = new AtomicBoolean(false);
+    private final AtomicBoolean drainRequested = new AtomicBoolean(false);
+    private volatile boolean notificationsActive = false;
+    private volatile long lastDrainRequested = System.nanoTime();
+    private volatile long retryAt;
+    private volatile int consecutiveFailures = 0;
+    
+    @Value("${resume.outbox.batch-size:50}")
+    private int batchSize;
+    
+    @Value("${resume.outbox.listen.poll-interval-ms:30000}")
+    private long listeningPollIntervalMs;
+    
+    @Value("${resume.outbox.retry-backoff-ms:5000}")
+    private long retryBackoffMs;
+    
+    @Value("${resume.outbox.max-backoff-ms:600000}")
+    private long maxBackoffMs;
+    
+    @Autowired
+    @Qualifier("taskExecutor")
+    private Executor taskExecutor;
+    
+    public ResumeChangeScheduler(ResumeStorageService storageService) {
+        this.storageService = storageService;
+    }
+    
+    /**
+     * Periodic polling of the outbox. While change notifications are being received it only
+     * drains every resume.outbox.listen.poll-interval-ms; after a failed drain it waits for the backoff.
+     */
+    @Scheduled(fixedDelayString = "${resume.outbox.poll-interval-ms:5000}")
+    public void pollChanges() {
+        long now = System.nanoTime();
+        if (consecutiveFailures > 0 && now - retryAt < 0) {
+            return;
+        }
+        if (!notificationsActive || now - lastDrainRequested >= TimeUnit.MILLISECONDS.toNanos(listeningPollIntervalMs)) {
+            requestDrain();
+        }
+    }
+    
+    /**
+     * Request that the outbox be drained.
+     * Requests arriving while a drain is running are coalesced into one follow-up drain.
+     */
+    public void requestDrain() {
+        lastDrainRequested = System.nanoTime();
+        drainRequested.set(true);
+        if (draining.compareAndSet(false, true)) {
+            taskExecutor.execute(this::runDrains);
+        }
+    }
+    
+    /**
+     * Set whether change notifications are currently being received.
+     * 
+     * @param active True if the notification listener is connected
+     */
+    public void setNotificationsActive(boolean active) {
+        this.notificationsActive = active;
+    }
+    
+    /**
+     * Run drains until no further drain has been requested.
+     */
+    private void runDrains() {
+        do {
+            try {
+                while (drainRequested.getAndSet(false)) {
+                    drainChanges();
+                }
+            } finally {
+                draining.set(false);
+            }
+        } while (drainRequested.get() && draining.compareAndSet(false, true));
+    }
+    
+    /**
+     * Drain the outbox, one claimed batch at a time, until no change is ready.
+     */
+    private void drainChanges() {
+        try {
+            int total = 0;
+            int processed;
+            do {
+                processed = storageService.processPendingChanges(batchSize);
+                total += processed;
+            } while (processed == batchSize);
+            
+            if (total > 0) {
+                logger.info("Drained {} resume changes from outbox", total);
+            }
+            consecutiveFailures = 0;
+        } catch (Exception e) {
+            // The next poll after the backoff drains again; notifications do not wait for it
+            consecutiveFailures++;
+            long backoffMs = Math.min(maxBackoffMs, retryBackoffMs << Math.min(consecutiveFailures - 1, 20));
+            retryAt = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(backoffMs);
+            logger.error("Error draining resume change outbox, retrying in {} ms", backoffMs, e);
+        }
+    }
+}
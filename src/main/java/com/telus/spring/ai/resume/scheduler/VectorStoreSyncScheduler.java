@@ -14,10 +14,12 @@ import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.concurrent.Executor;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Enhanced scheduler for vector store synchronization.
- * This is now the primary way resumes enter the vector store system.
+ * Resumes normally reach the vector store through the resume change outbox;
+ * this full reconciliation is a safety net for anything the outbox missed.
  */
 @Component
 public class VectorStoreSyncScheduler {
@@ -29,6 +31,8 @@ public class VectorStoreSyncScheduler {
     private final AtomicBoolean syncInProgress = new AtomicBoolean(false);
     private LocalDateTime lastSyncTime;
     private SyncResult lastSyncResult;
+    private final AtomicInteger syncProcessed = new AtomicInteger();
+    private final AtomicInteger syncTotal = new AtomicInteger();
     
     @Autowired
     @Qualifier("resumeProcessingExecutor")
@@ -90,7 +94,12 @@ public class VectorStoreSyncScheduler {
      */
     private SyncResult synchronizeVectorStore() {
         lastSyncTime = LocalDateTime.now();
-        lastSyncResult = storageService.synchronizeVectorStore();
+        syncProcessed.set(0);
+        syncTotal.set(0);
+        lastSyncResult = storageService.synchronizeVectorStore((processed, total) -> {
+            syncProcessed.set(processed);
+            syncTotal.set(total);
+        });
         return lastSyncResult;
     }
     
@@ -103,6 +112,24 @@ public class VectorStoreSyncScheduler {
         return syncInProgress.get();
     }
     
+    /**
+     * Get the number of missing resumes processed by the current or last synchronization.
+     * 
+     * @return The number of resumes processed
+     */
+    public int getSyncProcessed() {
+        return syncProcessed.get();
+    }
+    
+    /**
+     * Get the number of missing resumes found by the current or last synchronization.
+     * 
+     * @return The number of resumes to process
+     */
+    public int getSyncTotal() {
+        return syncTotal.get();
+    }
+    
     /**
      * Get the time of the last synchronization.
      * 
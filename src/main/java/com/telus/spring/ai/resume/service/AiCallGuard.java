@@ -0,0 +1,86 @@
+package com.telus.spring.ai.resume.service;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+/**
+ * Guards calls to the chat model with a circuit breaker, a timeout and optional hedging,
+ * and schedules them in per-priority lanes.
+ * While the circuit is open calls fail fast with {@link AiUnavailableException} instead of
+ * waiting for a degraded provider.
+ */
+public interface AiCallGuard {
+    
+    /**
+     * Run an interactive chat model call asynchronously on the AI operations executor.
+     * If hedging is enabled and the call is slower than the recent p95 latency, a second
+     * identical call is started and the first successful response wins.
+     * 
+     * @param operation Name of the operation, for logging
+     * @param call The blocking chat model call
+     * @param timeoutSeconds Maximum time to wait for a response
+     * @return A CompletableFuture with the response; completes exceptionally with
+     *         {@link AiUnavailableException} if the circuit is open and with a
+     *         TimeoutException if no response arrived in time
+     */
+    <T> CompletableFuture<T> callAsync(String operation, Supplier<T> call, long timeoutSeconds);
+    
+    /**
+     * Run a chat model call asynchronously in the lane of the given priority.
+     * When the lane is at its concurrency cap the call waits, without holding a thread,
+     * until a call of the same lane completes; the timeout starts once the call starts.
+     * When the lane's queue is full as well, the call fails with {@link AiUnavailableException}.
+     * Cancelling the returned future removes a waiting call from the lane and interrupts
+     * a running one. A timed out call is interrupted and keeps its slot until its thread
+     * returns; hedge attempts only start when the lane has a free slot.
+     * 
+     * @param operation Name of the operation, for logging
+     * @param priority The lane to run the call in
+     * @param call The blocking chat model call
+     * @param timeoutSeconds Maximum time to wait for a response
+     * @return A CompletableFuture with the response
+     * @see #callAsync(String, Supplier, long)
+     */
+    <T> CompletableFuture<T> callAsync(String operation, CallPriority priority, Supplier<T> call, long timeoutSeconds);
+    
+    /**
+     * Run an interactive chat model call and wait for the response.
+     * 
+     * @param operation Name of the operation, for logging
+     * @param call The blocking chat model call
+     * @param timeoutSeconds Maximum time to wait for a response
+     * @return The response
+     * @throws AiUnavailableException If the circuit is open, the call timed out or failed
+     */
+    <T> T call(String operation, Supplier<T> call, long timeoutSeconds);
+    
+    /**
+     * Run a chat model call in the lane of the given priority and wait for the response.
+     * 
+     * @param operation Name of the operation, for logging
+     * @param priority The lane to run the call in
+     * @param call The blocking chat model call
+     * @param timeoutSeconds Maximum time to wait for a response once the call has started
+     * @return The response
+     * @throws AiUnavailableException If the circuit is open, the call timed out or failed
+     */
+    <T> T call(String operation, CallPriority priority, Supplier<T> call, long timeoutSeconds);
+    
+    /**
+     * Get how many more calls the lane of the given priority accepts right now, running
+     * or waiting, before it rejects calls with {@link AiUnavailableException}.
+     * 
+     * @param priority The lane
+     * @return The free slots plus the free places in the lane's queue
+     */
+    int availableCapacity(CallPriority priority);
+    
+    /**
+     * Get the current circuit breaker state and call statistics.
+     * 
+     * @return State, failure rate and latency figures, and in-flight, queued and completed
+     *         calls per lane
+     */
+    Map<String, Object> getStatus();
+}
@@ -0,0 +1,18 @@
+package com.telus.spring.ai.resume.service;
+
+/**
+ * Thrown when the chat model cannot be used, either because the circuit breaker is open
+ * or because a guarded call failed or timed out.
+ */
+public class AiUnavailableException extends RuntimeException {
+    
+    private static final long serialVersionUID = 1L;
+    
+    public AiUnavailableException(String message) {
+        super(message);
+    }
+    
+    public AiUnavailableException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,18 @@
+package com.telus.spring.ai.resume.service;
+
+/**
+ * Scheduling lane of a unit of work. Each lane has its own concurrency cap, so background
+ * work can never occupy the capacity that user-facing requests need.
+ */
+public enum CallPriority {
+    
+    /**
+     * A user is waiting for the result: matches from the UI or the match endpoint, single uploads.
+     */
+    INTERACTIVE,
+    
+    /**
+     * Nobody is waiting on the result right away: match jobs, bulk parsing, vector store sync.
+     */
+    BACKGROUND
+}
@@ -0,0 +1,62 @@
+package com.telus.spring.ai.resume.service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import com.telus.spring.ai.resume.model.MatchJob;
+import com.telus.spring.ai.resume.model.ResumeResponse;
+import com.telus.spring.ai.resume.model.RetrievalMode;
+
+/**
+ * Service for running resume matches as background jobs with persisted results.
+ */
+public interface MatchJobService {
+    
+    /**
+     * Submit a match job; it runs in the background.
+     * 
+     * @param jobDescription The job description to match against
+     * @param limit The maximum number of matches to return
+     * @param mode How candidates are retrieved
+     * @param keywords Keywords for hybrid retrieval, or null to derive them from the job description
+     * @return The queued job
+     */
+    MatchJob submit(String jobDescription, int limit, RetrievalMode mode, String keywords);
+    
+    /**
+     * Get a match job with its current progress.
+     * 
+     * @param jobId The ID of the job
+     * @return The job, or empty if not found
+     */
+    Optional<MatchJob> getJob(UUID jobId);
+    
+    /**
+     * Get a page of the results of a completed match job, best match first.
+     * 
+     * @param jobId The ID of the job
+     * @param offset The number of results to skip
+     * @param size The maximum number of results to return
+     * @return The results in rank order
+     */
+    List<ResumeResponse> getResults(UUID jobId, int offset, int size);
+    
+    /**
+     * Fail queued or running jobs that have not made progress for the given time,
+     * such as jobs that were running when their instance stopped.
+     * 
+     * @param staleAfter How long a job may go without progress
+     * @return The number of jobs failed
+     */
+    int failStaleJobs(Duration staleAfter);
+    
+    /**
+     * Delete finished jobs and their results.
+     * 
+     * @param retention How long finished jobs are kept
+     * @return The number of jobs deleted
+     */
+    int deleteExpiredJobs(Duration retention);
+}
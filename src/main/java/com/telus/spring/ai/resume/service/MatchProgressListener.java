@@ -0,0 +1,26 @@
+package com.telus.spring.ai.resume.service;
+
+import com.telus.spring.ai.resume.model.ResumeMatch;
+
+/**
+ * Receives progress of a resume match while candidates are scored.
+ * Methods may be called from executor threads.
+ */
+public interface MatchProgressListener {
+    
+    /**
+     * Called once the candidates have been retrieved, before any is scored.
+     * 
+     * @param total The number of candidates that will be scored
+     */
+    default void onCandidates(int total) {
+    }
+    
+    /**
+     * Called each time a candidate has been scored.
+     * 
+     * @param match The scored candidate
+     */
+    default void onMatch(ResumeMatch match) {
+    }
+}
@@ -2,9 +2,11 @@ package com.telus.spring.ai.resume.service;
 
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
 
 import com.telus.spring.ai.resume.model.Resume;
 import com.telus.spring.ai.resume.model.ResumeMatch;
+import com.telus.spring.ai.resume.model.RetrievalMode;
 
 /**
  * Service for matching resumes to job descriptions.
@@ -20,6 +22,79 @@ public interface ResumeMatchingService {
      */
     List<ResumeMatch> findMatchingResumes(String jobDescription, int limit);
     
+    /**
+     * Find resumes that match a job description using the given retrieval mode.
+     * 
+     * @param jobDescription The job description to match against
+     * @param limit The maximum number of matches to return
+     * @param mode How candidates are retrieved
+     * @param keywords Keywords for hybrid retrieval, or null to derive them from the job description
+     * @return A list of resume matches, ordered by relevance
+     */
+    List<ResumeMatch> findMatchingResumes(String jobDescription, int limit, RetrievalMode mode, String keywords);
+    
+    /**
+     * Find resumes that match a job description without blocking the calling thread,
+     * using the configured retrieval mode.
+     * 
+     * @param jobDescription The job description to match against
+     * @param limit The maximum number of matches to return
+     * @return A CompletableFuture with the resume matches, ordered by relevance
+     * @throws java.util.concurrent.RejectedExecutionException If the matching executor is saturated
+     * @see #findMatchingResumesAsync(String, int, RetrievalMode, String)
+     */
+    CompletableFuture<List<ResumeMatch>> findMatchingResumesAsync(String jobDescription, int limit);
+    
+    /**
+     * Find resumes that match a job description without blocking the calling thread.
+     * Cancelling the returned future aborts the queued and in-flight work of the request.
+     * 
+     * @param jobDescription The job description to match against
+     * @param limit The maximum number of matches to return
+     * @param mode How candidates are retrieved
+     * @param keywords Keywords for hybrid retrieval, or null to derive them from the job description
+     * @return A CompletableFuture with the resume matches, ordered by relevance
+     * @throws java.util.concurrent.RejectedExecutionException If the matching executor is saturated
+     */
+    CompletableFuture<List<ResumeMatch>> findMatchingResumesAsync(String jobDescription, int limit,
+                                                                 RetrievalMode mode, String keywords);
+    
+    /**
+     * Find resumes that match a job description without blocking the calling thread,
+     * limiting how many matches run at once.
+     * A permit is taken only when the call starts a new match, and given back when that
+     * match completes; a call that joins an identical running match takes none.
+     * 
+     * @param jobDescription The job description to match against
+     * @param limit The maximum number of matches to return
+     * @param mode How candidates are retrieved
+     * @param keywords Keywords for hybrid retrieval, or null to derive them from the job description
+     * @param permits One permit per match allowed to run concurrently
+     * @return A CompletableFuture with the resume matches, ordered by relevance
+     * @throws TooManyMatchesException If a new match is needed
+     *         and no permit is free
+     * @throws java.util.concurrent.RejectedExecutionException If the matching executor is saturated
+     */
+    CompletableFuture<List<ResumeMatch>> findMatchingResumesAsync(String jobDescription, int limit,
+                                                                 RetrievalMode mode, String keywords,
+                                                                 Semaphore permits);
+    
+    /**
+     * Find resumes that match a job description in the given lane, reporting progress as
+     * candidates are scored. Unlike the other variants, which run interactively, concurrent
+     * identical calls are not coalesced.
+     * 
+     * @param jobDescription The job description to match against
+     * @param limit The maximum number of matches to return
+     * @param mode How candidates are retrieved
+     * @param keywords Keywords for hybrid retrieval, or null to derive them from the job description
+     * @param priority The lane to retrieve and score candidates in
+     * @param listener Receives the candidate count and each scored candidate
+     * @return A list of resume matches, ordered by relevance
+     */
+    List<ResumeMatch> findMatchingResumes(String jobDescription, int limit, RetrievalMode mode, String keywords,
+                                          CallPriority priority, MatchProgressListener listener);
+    
     /**
      * Explain why a resume matches a job description.
      * 
@@ -31,7 +106,8 @@ public interface ResumeMatchingService {
     
     /**
      * Asynchronously explain why a resume matches a job description.
-     * This method is optimized for parallel processing.
+     * This method is optimized for parallel processing. Cancelling the returned future
+     * cancels the AI call.
      * 
      * @param resume The resume to explain
      * @param jobDescription The job description to match against
@@ -1,15 +1,18 @@
 package com.telus.spring.ai.resume.service;
 
 import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.BiConsumer;
 
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
 import org.springframework.web.multipart.MultipartFile;
 
 import com.telus.spring.ai.resume.model.Resume;
 import com.telus.spring.ai.resume.model.ResumeParseResult;
+import com.telus.spring.ai.resume.model.ResumeSearchHit;
+import com.telus.spring.ai.resume.model.ResumeSummary;
 import com.telus.spring.ai.resume.model.SyncResult;
 
 /**
@@ -27,6 +30,16 @@ public interface ResumeStorageService {
      */
     Resume storeResume(ResumeParseResult parseResult, MultipartFile file) throws IOException;
     
+    /**
+     * Store many resumes at once.
+     * Resumes that already exist (same name, email and phone number) are updated.
+     * 
+     * @param parseResults The parsed resume data
+     * @param files The uploaded files, one per parse result and in the same order
+     * @return The stored resumes, in the same order as the parse results
+     */
+    List<Resume> storeResumes(List<ResumeParseResult> parseResults, List<MultipartFile> files);
+    
     /**
      * Find a resume by name, email, and phone number.
      * 
@@ -55,12 +68,35 @@ public interface ResumeStorageService {
     Optional<Resume> getResumeById(UUID id);
     
     /**
-     * Get all resumes with pagination.
+     * Get a resume by ID together with its full text.
+     * The full text is stored separately and is not loaded by {@link #getResumeById(UUID)}.
+     * 
+     * @param id The ID of the resume to get
+     * @return The resume with its full text, if found
+     */
+    Optional<Resume> getResumeWithContent(UUID id);
+    
+    /**
+     * Get resume summaries with keyset pagination, newest first.
+     * Pass null for both keyset values to get the first page; otherwise pass the
+     * upload time and ID of the last summary of the previous page.
+     * 
+     * @param afterUploadedAt The upload time of the last summary already seen, or null
+     * @param afterId The ID of the last summary already seen, or null
+     * @param limit The maximum number of summaries to return
+     * @return A list of resume summaries
+     */
+    List<ResumeSummary> getResumeSummaries(LocalDateTime afterUploadedAt, UUID afterId, int limit);
+    
+    /**
+     * Search resumes by keywords in their text.
+     * Uses the database full-text index only; no embedding or chat model is involved.
      * 
-     * @param pageable The pagination information
-     * @return A page of resumes
+     * @param query The keywords to search for
+     * @param limit The maximum number of hits to return
+     * @return The search hits, most relevant first
      */
-    Page<Resume> getAllResumes(Pageable pageable);
+    List<ResumeSearchHit> searchResumes(String query, int limit);
     
     /**
      * Delete a resume by ID.
@@ -74,9 +110,30 @@ public interface ResumeStorageService {
      * This ensures that:
      * 1. Every resume in the database has exactly one entry in the vector store
      * 2. There are no orphaned entries in the vector store
-     * 3. There are no duplicate entries in the vector store
+     * 3. There are no duplicate entries in the vector store (guaranteed by upserting on resume_id,
+     *    so the duplicate count of the result is always zero)
      * 
      * @return The result of the synchronization
      */
     SyncResult synchronizeVectorStore();
+    
+    /**
+     * Synchronize the vector store with the database, reporting progress.
+     * 
+     * @param progress Receives the number of missing resumes embedded so far and the
+     *                 total number missing, after each batch
+     * @return The result of the synchronization
+     */
+    SyncResult synchronizeVectorStore(BiConsumer<Integer, Integer> progress);
+    
+    /**
+     * Apply a batch of pending changes from the resume_changes outbox to the vector store.
+     * Created and updated resumes are re-embedded, deleted resumes are removed.
+     * Changes are claimed in a short statement and applied outside any transaction;
+     * changes of a resume that cannot be applied are retried later and eventually parked.
+     * 
+     * @param batchSize The maximum number of changes to claim
+     * @return The number of changes claimed, whether applied, retried or parked
+     */
+    int processPendingChanges(int batchSize);
 }
@@ -0,0 +1,14 @@
+package com.telus.spring.ai.resume.service;
+
+/**
+ * Thrown when a match cannot start because the limit of concurrently running matches
+ * has been reached.
+ */
+public class TooManyMatchesException extends RuntimeException {
+    
+    private static final long serialVersionUID = 1L;
+    
+    public TooManyMatchesException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,781 @@
+package com.telus.spring.ai.resume.service.impl;
+
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.telus.spring.ai.resume.service.AiCallGuard;
+import com.telus.spring.ai.resume.service.AiUnavailableException;
+import com.telus.spring.ai.resume.service.CallPriority;
+
+import io.micrometer.context.ContextSnapshot;
+import io.micrometer.context.ContextSnapshotFactory;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Implementation of AiCallGuard with a count-based circuit breaker.
+ * The breaker opens when the share of failed or slow calls in the last calls reaches
+ * the threshold, rejects calls while open, and after the open period lets a few probe
+ * calls through (half-open) to decide whether to close again.
+ * Cancelling the future of a call drops it from its lane if it has not started and
+ * interrupts its attempts otherwise; cancelled attempts are not counted by the breaker.
+ * A timed out call interrupts its attempts too, and keeps its lane slot until the thread
+ * of its attempt has returned, so abandoned HTTP requests still count against the cap.
+ * The timeout of a call starts when a worker picks it up. Timeouts and hedges are timed
+ * on the guard's own timer thread, which only interrupts attempts and hands work over to
+ * the AI operations executor: the stages that depend on a call never run on the timer.
+ */
+@Service
+public class AiCallGuardImpl implements AiCallGuard {
+
+    private static final Logger logger = LoggerFactory.getLogger(AiCallGuardImpl.class);
+
+    private static final int LATENCY_SAMPLES = 200;
+
+    // Delay before a timer hand-off rejected by a saturated executor is tried again
+    private static final long HAND_OFF_RETRY_MS = 100;
+
+    private static final ContextSnapshotFactory CONTEXT_SNAPSHOTS = ContextSnapshotFactory.builder().build();
+
+    private enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private enum Permit { DENIED, NORMAL, PROBE }
+
+    @Value("${resume.ai.circuit.window-size:20}")
+    private int windowSize;
+
+    @Value("${resume.ai.circuit.minimum-calls:10}")
+    private int minimumCalls;
+
+    @Value("${resume.ai.circuit.failure-rate-threshold:50}")
+    private int failureRateThreshold;
+
+    @Value("${resume.ai.circuit.slow-call-threshold-ms:20000}")
+    private long slowCallThresholdMs;
+
+    @Value("${resume.ai.circuit.open-duration-ms:30000}")
+    private long openDurationMs;
+
+    @Value("${resume.ai.circuit.half-open-probes:2}")
+    private int halfOpenProbes;
+
+    @Value("${resume.ai.hedge.enabled:false}")
+    private boolean hedgeEnabled;
+
+    @Value("${resume.ai.hedge.min-delay-ms:2000}")
+    private long hedgeMinDelayMs;
+
+    @Value("${resume.ai.hedge.min-samples:20}")
+    private int hedgeMinSamples;
+
+    @Value("${resume.ai.lanes.interactive.max-concurrency:64}")
+    private int interactiveMaxConcurrency;
+
+    @Value("${resume.ai.lanes.background.max-concurrency:4}")
+    private int backgroundMaxConcurrency;
+
+    @Value("${resume.ai.lanes.interactive.max-queued:200}")
+    private int interactiveMaxQueued;
+
+    @Value("${resume.ai.lanes.background.max-queued:500}")
+    private int backgroundMaxQueued;
+
+    @Autowired
+    @Qualifier("aiOperationsExecutor")
+    private Executor aiOperationsExecutor;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private ObservationRegistry observationRegistry;
+
+    // Breaker state, guarded by this
+    private State state = State.CLOSED;
+    private boolean[] outcomes;
+    private int outcomeCount;
+    private int outcomeIndex;
+    private int failureCount;
+    private long openedAt;
+    private int probesStarted;
+    private int probesSucceeded;
+
+    // Latencies of successful calls, guarded by this
+    private final long[] latencies = new long[LATENCY_SAMPLES];
+    private int latencyCount;
+    private int latencyIndex;
+
+    private final Map<CallPriority, Lane> lanes = new EnumMap<>(CallPriority.class);
+
+    private ScheduledThreadPoolExecutor timer;
+
+    @PostConstruct
+    public void init() {
+        outcomes = new boolean[windowSize];
+        timer = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, "AI-Guard-Timer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        // Most timeouts are cancelled because the call completed; don't keep them queued
+        timer.setRemoveOnCancelPolicy(true);
+        lanes.put(CallPriority.INTERACTIVE, new Lane(interactiveMaxConcurrency, interactiveMaxQueued));
+        lanes.put(CallPriority.BACKGROUND, new Lane(backgroundMaxConcurrency, backgroundMaxQueued));
+
+        Gauge.builder("resume.ai.circuit.state", this, guard -> guard.currentState().ordinal())
+                .description("AI circuit breaker state: 0 closed, 1 open, 2 half-open")
+                .register(meterRegistry);
+        lanes.forEach((priority, lane) -> {
+            String laneName = priority.name().toLowerCase();
+            Gauge.builder("resume.ai.lane.in.flight", lane, Lane::inFlight)
+                    .description("AI calls running in the lane")
+                    .tag("lane", laneName)
+                    .register(meterRegistry);
+            Gauge.builder("resume.ai.lane.queued", lane, Lane::queued)
+                    .description("AI calls waiting for a slot in the lane")
+                    .tag("lane", laneName)
+                    .register(meterRegistry);
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        timer.shutdownNow();
+    }
+
+    @Override
+    public <T> CompletableFuture<T> callAsync(String operation, Supplier<T> call, long timeoutSeconds) {
+        return callAsync(operation, CallPriority.INTERACTIVE, call, timeoutSeconds);
+    }
+
+    @Override
+    public <T> CompletableFuture<T> callAsync(String operation, CallPriority priority, Supplier<T> call,
+                                              long timeoutSeconds) {
+        Lane lane = lanes.get(priority);
+        CompletableFuture<T> result = new CompletableFuture<>();
+        long submittedAt = System.nanoTime();
+        // A queued call is started by whichever thread frees its slot; carry the caller's
+        // context (current observation and span, MDC) over to it
+        boolean accepted = lane.submit(CONTEXT_SNAPSHOTS.captureAll().wrap(() -> {
+            if (result.isDone()) {
+                // Cancelled while waiting in the lane
+                lane.release();
+                return;
+            }
+            meterRegistry.timer("resume.ai.lane.wait", "lane", priority.name().toLowerCase())
+                    .record(System.nanoTime() - submittedAt, TimeUnit.NANOSECONDS);
+            
+            Observation observation = Observation.createNotStarted("resume.ai.calls", observationRegistry)
+                    .contextualName(operation)
+                    .lowCardinalityKeyValue("operation", operation)
+                    .lowCardinalityKeyValue("lane", priority.name().toLowerCase())
+                    .start();
+            CompletableFuture<T> started;
+            try (Observation.Scope scope = observation.openScope()) {
+                started = startCall(operation, lane, call, timeoutSeconds, lane::release);
+            }
+            BoundedParallel.linkCancellation(result, started);
+            started.whenComplete((value, ex) -> {
+                observation.lowCardinalityKeyValue("outcome", outcomeOf(started, ex));
+                observation.stop();
+                if (ex != null) {
+                    result.completeExceptionally(ex);
+                } else {
+                    result.complete(value);
+                }
+            });
+        }));
+        if (!accepted) {
+            meterRegistry.counter("resume.ai.lane.rejected", "lane", priority.name().toLowerCase()).increment();
+            logger.warn("Rejecting AI call {}: {} lane queue is full", operation, priority.name().toLowerCase());
+            result.completeExceptionally(new AiUnavailableException("The " + priority.name().toLowerCase()
+                    + " AI lane is full"));
+        }
+        return result;
+    }
+
+    /**
+     * Classify how a call ended, for the call timer.
+     */
+    private static String outcomeOf(CompletableFuture<?> call, Throwable ex) {
+        if (ex == null) {
+            return "success";
+        }
+        if (call.isCancelled()) {
+            return "cancelled";
+        }
+        Throwable cause = ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex;
+        if (cause instanceof TimeoutException) {
+            return "timeout";
+        }
+        if (cause instanceof AiUnavailableException) {
+            return "rejected";
+        }
+        return "failure";
+    }
+
+    /**
+     * Start a call that has been admitted by its lane.
+     *
+     * @param onSettled Run once the call is done and its primary attempt has returned,
+     *                  to give back the lane slot
+     */
+    private <T> CompletableFuture<T> startCall(String operation, Lane lane, Supplier<T> call, long timeoutSeconds,
+                                               Runnable onSettled) {
+        Permit permit = tryAcquire();
+        if (permit == Permit.DENIED) {
+            onSettled.run();
+            logger.warn("Rejecting AI call {}: circuit breaker is open", operation);
+            return CompletableFuture.failedFuture(
+                    new AiUnavailableException("Circuit breaker is open for the AI service"));
+        }
+
+        CompletableFuture<T> result = new CompletableFuture<>();
+        List<Attempt> attempts = new CopyOnWriteArrayList<>();
+        AtomicInteger pending = new AtomicInteger(1);
+        AtomicReference<TimeoutException> timeout = new AtomicReference<>();
+        List<ScheduledFuture<?>> timers = new CopyOnWriteArrayList<>();
+        // Held by the result until it is done and by the primary attempt until its thread returns
+        AtomicInteger holds = new AtomicInteger(2);
+        Runnable releaseHold = () -> {
+            if (holds.decrementAndGet() == 0) {
+                onSettled.run();
+            }
+        };
+
+        Attempt primary = new Attempt(permit);
+        attempts.add(primary);
+        long hedgeDelayMs = hedgeDelayMs();
+        ContextSnapshot context = CONTEXT_SNAPSHOTS.captureAll();
+        try {
+            CompletableFuture.runAsync(() -> {
+                try {
+                    // The time budget starts now, not while the call waited for a worker
+                    if (!result.isDone()) {
+                        timers.add(timer.schedule(() -> timeOut(operation, timeoutSeconds, result, attempts, timeout),
+                                timeoutSeconds, TimeUnit.SECONDS));
+                        // Hedge: if the call is slower than usual, race a second identical call
+                        if (hedgeDelayMs > 0) {
+                            timers.add(timer.schedule(() -> submitHedge(operation, lane, call, result, attempts,
+                                    pending, timeout, hedgeDelayMs, context), hedgeDelayMs, TimeUnit.MILLISECONDS));
+                        }
+                    }
+                    runAttempt(operation, call, primary, result, pending, timeout);
+                } finally {
+                    releaseHold.run();
+                }
+            }, aiOperationsExecutor);
+        } catch (RejectedExecutionException e) {
+            // Saturation is ours, not the provider's: don't count it against the circuit
+            release(permit);
+            onSettled.run();
+            logger.warn("Rejecting AI call {}: AI operations executor is saturated", operation);
+            return CompletableFuture.failedFuture(
+                    new AiUnavailableException("AI operations executor is saturated", e));
+        }
+
+        // A cancelled call interrupts its attempts so the blocking HTTP requests are abandoned
+        result.whenComplete((value, ex) -> {
+            timers.forEach(scheduled -> scheduled.cancel(false));
+            if (result.isCancelled()) {
+                logger.info("AI call {} cancelled", operation);
+                attempts.forEach(Attempt::cancel);
+            }
+            releaseHold.run();
+        });
+
+        return result;
+    }
+
+    /**
+     * Time out a call, on the timer thread. The attempts are counted as failed, even if they
+     * complete later, and interrupted so the blocking HTTP requests are abandoned. An
+     * interrupted attempt fails the call with the timeout itself; the hand-off to the AI
+     * executor covers attempts that ignore the interrupt.
+     */
+    private <T> void timeOut(String operation, long timeoutSeconds, CompletableFuture<T> result,
+                             List<Attempt> attempts, AtomicReference<TimeoutException> timeout) {
+        if (result.isDone()) {
+            return;
+        }
+        TimeoutException exception = new TimeoutException(
+                "AI call " + operation + " timed out after " + timeoutSeconds + " seconds");
+        timeout.set(exception);
+        logger.warn("AI call {} timed out after {} seconds", operation, timeoutSeconds);
+        attempts.forEach(Attempt::timedOut);
+        handOff(() -> result.completeExceptionally(exception));
+    }
+
+    /**
+     * Run a task of the timer on the AI operations executor, so whatever depends on it never
+     * runs on the timer thread. A task rejected by a saturated executor is tried again shortly.
+     */
+    private void handOff(Runnable task) {
+        try {
+            aiOperationsExecutor.execute(task);
+        } catch (RejectedExecutionException e) {
+            timer.schedule(() -> handOff(task), HAND_OFF_RETRY_MS, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Submit a hedge attempt of a call that is still running, on the timer thread.
+     * A hedge is best effort: when the executor is saturated it is skipped.
+     */
+    private <T> void submitHedge(String operation, Lane lane, Supplier<T> call, CompletableFuture<T> result,
+                                 List<Attempt> attempts, AtomicInteger pending,
+                                 AtomicReference<TimeoutException> timeout, long hedgeDelayMs,
+                                 ContextSnapshot context) {
+        if (result.isDone()) {
+            return;
+        }
+        try {
+            aiOperationsExecutor.execute(context.wrap(() ->
+                    runHedge(operation, lane, call, result, attempts, pending, timeout, hedgeDelayMs)));
+        } catch (RejectedExecutionException e) {
+            meterRegistry.counter("resume.ai.hedges", "outcome", "rejected").increment();
+            logger.warn("Could not hedge AI call {}: AI operations executor is saturated", operation);
+        }
+    }
+
+    /**
+     * Run a hedge attempt of a call that is still running, on the current worker thread.
+     * The hedge needs a free slot in the call's lane, which it holds until it returns;
+     * it is skipped when the lane is full or calls are waiting for a slot.
+     */
+    private <T> void runHedge(String operation, Lane lane, Supplier<T> call, CompletableFuture<T> result,
+                              List<Attempt> attempts, AtomicInteger pending,
+                              AtomicReference<TimeoutException> timeout, long hedgeDelayMs) {
+        if (result.isDone()) {
+            return;
+        }
+        if (!lane.tryAcquireExtra()) {
+            meterRegistry.counter("resume.ai.hedges", "outcome", "lane_full").increment();
+            return;
+        }
+        try {
+            Permit hedgePermit = tryAcquire();
+            if (hedgePermit == Permit.DENIED) {
+                return;
+            }
+
+            pending.incrementAndGet();
+            Attempt hedge = new Attempt(hedgePermit);
+            attempts.add(hedge);
+            if (result.isDone() || timeout.get() != null) {
+                // Settled or timed out while the hedge was being set up: never start it
+                hedge.cancel();
+            }
+            meterRegistry.counter("resume.ai.hedges", "outcome", "started").increment();
+            logger.info("Hedging AI call {} after {} ms", operation, hedgeDelayMs);
+            runAttempt(operation, call, hedge, result, pending, timeout);
+        } finally {
+            lane.releaseExtra();
+        }
+    }
+
+    @Override
+    public <T> T call(String operation, Supplier<T> call, long timeoutSeconds) {
+        return call(operation, CallPriority.INTERACTIVE, call, timeoutSeconds);
+    }
+
+    @Override
+    public <T> T call(String operation, CallPriority priority, Supplier<T> call, long timeoutSeconds) {
+        try {
+            return callAsync(operation, priority, call, timeoutSeconds).join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            if (cause instanceof AiUnavailableException unavailable) {
+                throw unavailable;
+            }
+            throw new AiUnavailableException("AI call " + operation + " failed: " + cause, cause);
+        }
+    }
+
+    @Override
+    public int availableCapacity(CallPriority priority) {
+        return lanes.get(priority).availableCapacity();
+    }
+
+    @Override
+    public synchronized Map<String, Object> getStatus() {
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("state", currentState().name());
+        status.put("callsInWindow", outcomeCount);
+        status.put("failureRate", outcomeCount == 0 ? 0.0 : (double) failureCount / outcomeCount);
+        status.put("p95LatencyMs", latencyCount == 0 ? null : p95LatencyMs());
+        status.put("hedgeEnabled", hedgeEnabled);
+        Map<String, Object> laneStatus = new LinkedHashMap<>();
+        lanes.forEach((priority, lane) -> laneStatus.put(priority.name(), lane.getStatus()));
+        status.put("lanes", laneStatus);
+        return status;
+    }
+
+    /**
+     * Run one attempt of a call on the current thread and publish its outcome.
+     * The result fails only when every started attempt has failed, with the timeout if
+     * the call timed out.
+     */
+    private <T> void runAttempt(String operation, Supplier<T> call, Attempt attempt,
+                                CompletableFuture<T> result, AtomicInteger pending,
+                                AtomicReference<TimeoutException> timeout) {
+        if (!attempt.bind(Thread.currentThread())) {
+            // Cancelled or timed out before it started
+            if (pending.decrementAndGet() == 0 && timeout.get() != null) {
+                result.completeExceptionally(timeout.get());
+            }
+            return;
+        }
+        try {
+            T value = call.get();
+            attempt.succeeded();
+            result.complete(value);
+        } catch (Exception e) {
+            if (!attempt.isCancelled()) {
+                attempt.failed();
+                logger.error("AI call {} failed: {}", operation, e.getMessage());
+            }
+            if (pending.decrementAndGet() == 0) {
+                result.completeExceptionally(timeout.get() != null ? timeout.get() : e);
+            }
+        } finally {
+            attempt.unbind();
+        }
+    }
+
+    /**
+     * Get the delay after which a call is hedged.
+     *
+     * @return The p95 latency of recent successful calls (at least the configured minimum),
+     *         or 0 if hedging is disabled or there are too few samples
+     */
+    private synchronized long hedgeDelayMs() {
+        if (!hedgeEnabled || latencyCount < hedgeMinSamples) {
+            return 0;
+        }
+        return Math.max(hedgeMinDelayMs, p95LatencyMs());
+    }
+
+    private synchronized long p95LatencyMs() {
+        long[] sorted = Arrays.copyOf(latencies, latencyCount);
+        Arrays.sort(sorted);
+        return sorted[(int) Math.ceil(sorted.length * 0.95) - 1];
+    }
+
+    /**
+     * Get the state, moving an expired open circuit to half-open.
+     */
+    private synchronized State currentState() {
+        if (state == State.OPEN && System.currentTimeMillis() - openedAt >= openDurationMs) {
+            state = State.HALF_OPEN;
+            probesStarted = 0;
+            probesSucceeded = 0;
+            logger.info("AI circuit breaker half-open, probing the AI service");
+        }
+        return state;
+    }
+
+    private synchronized Permit tryAcquire() {
+        switch (currentState()) {
+            case CLOSED:
+                return Permit.NORMAL;
+            case HALF_OPEN:
+                if (probesStarted < halfOpenProbes) {
+                    probesStarted++;
+                    return Permit.PROBE;
+                }
+                return Permit.DENIED;
+            default:
+                return Permit.DENIED;
+        }
+    }
+
+    /**
+     * Give back a permit whose call was never started or was cancelled.
+     */
+    private synchronized void release(Permit permit) {
+        if (permit == Permit.PROBE && state == State.HALF_OPEN) {
+            probesStarted--;
+        }
+    }
+
+    private synchronized void onSuccess(Permit permit, long latencyMs) {
+        latencies[latencyIndex] = latencyMs;
+        latencyIndex = (latencyIndex + 1) % latencies.length;
+        latencyCount = Math.min(latencyCount + 1, latencies.length);
+
+        boolean slow = latencyMs > slowCallThresholdMs;
+        if (permit == Permit.PROBE && state == State.HALF_OPEN) {
+            if (slow) {
+                open("slow probe call (" + latencyMs + " ms)");
+            } else if (++probesSucceeded >= halfOpenProbes) {
+                close();
+            }
+        } else if (state == State.CLOSED) {
+            recordOutcome(slow);
+        }
+    }
+
+    private synchronized void onFailure(Permit permit) {
+        if (permit == Permit.PROBE && state == State.HALF_OPEN) {
+            open("failed probe call");
+        } else if (state == State.CLOSED) {
+            recordOutcome(true);
+        }
+    }
+
+    private void recordOutcome(boolean failure) {
+        if (outcomeCount == outcomes.length && outcomes[outcomeIndex]) {
+            failureCount--;
+        }
+        outcomes[outcomeIndex] = failure;
+        outcomeIndex = (outcomeIndex + 1) % outcomes.length;
+        outcomeCount = Math.min(outcomeCount + 1, outcomes.length);
+        if (failure) {
+            failureCount++;
+        }
+
+        if (outcomeCount >= minimumCalls && failureCount * 100 >= failureRateThreshold * outcomeCount) {
+            open(failureCount + " of the last " + outcomeCount + " calls failed or were slow");
+        }
+    }
+
+    private void open(String reason) {
+        state = State.OPEN;
+        openedAt = System.currentTimeMillis();
+        resetWindow();
+        logger.warn("AI circuit breaker opened: {}", reason);
+    }
+
+    private void close() {
+        state = State.CLOSED;
+        resetWindow();
+        logger.info("AI circuit breaker closed");
+    }
+
+    private void resetWindow() {
+        Arrays.fill(outcomes, false);
+        outcomeCount = 0;
+        outcomeIndex = 0;
+        failureCount = 0;
+    }
+
+    /**
+     * Scheduling lane with its own concurrency cap.
+     * Calls beyond the cap wait in the lane's queue, without holding a thread, and are
+     * started in arrival order as running calls of the lane complete. At most maxQueued
+     * calls wait; further calls are rejected. Hedge attempts take a slot of the lane too,
+     * but only when no call is waiting for one.
+     */
+    private static final class Lane {
+
+        private final int maxConcurrency;
+        private final int maxQueued;
+        private final Semaphore permits;
+        private final Queue<Runnable> waiting = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger waitingCount = new AtomicInteger();
+        private final AtomicInteger drainers = new AtomicInteger();
+        private final AtomicLong completed = new AtomicLong();
+
+        Lane(int maxConcurrency, int maxQueued) {
+            this.maxConcurrency = maxConcurrency;
+            this.maxQueued = maxQueued;
+            this.permits = new Semaphore(maxConcurrency);
+        }
+
+        /**
+         * Queue a call to be started once the lane has a free slot.
+         *
+         * @return false if the queue is full and the call was not accepted
+         */
+        boolean submit(Runnable start) {
+            if (waitingCount.incrementAndGet() > maxQueued) {
+                waitingCount.decrementAndGet();
+                return false;
+            }
+            waiting.add(start);
+            drain();
+            return true;
+        }
+
+        void release() {
+            completed.incrementAndGet();
+            releaseExtra();
+        }
+
+        /**
+         * Take a free slot for a hedge attempt without queueing.
+         *
+         * @return false if the lane is full or calls are waiting for a slot
+         */
+        boolean tryAcquireExtra() {
+            return waiting.isEmpty() && permits.tryAcquire();
+        }
+
+        void releaseExtra() {
+            permits.release();
+            drain();
+        }
+
+        /**
+         * Start waiting calls while permits are available. Only one thread drains at a
+         * time; a drain requested meanwhile makes it loop again instead of recursing.
+         */
+        private void drain() {
+            if (drainers.getAndIncrement() != 0) {
+                return;
+            }
+            do {
+                while (!waiting.isEmpty() && permits.tryAcquire()) {
+                    Runnable next = waiting.poll();
+                    if (next == null) {
+                        permits.release();
+                        break;
+                    }
+                    waitingCount.decrementAndGet();
+                    next.run();
+                }
+            } while (drainers.decrementAndGet() != 0);
+        }
+
+        int inFlight() {
+            return maxConcurrency - permits.availablePermits();
+        }
+
+        int queued() {
+            return waitingCount.get();
+        }
+
+        int availableCapacity() {
+            return Math.max(0, permits.availablePermits() + maxQueued - queued());
+        }
+
+        Map<String, Object> getStatus() {
+            return Map.of(
+                "inFlight", inFlight(),
+                "queued", queued(),
+                "completed", completed.get(),
+                "maxConcurrency", maxConcurrency,
+                "maxQueued", maxQueued
+            );
+        }
+    }
+
+    /**
+     * One execution of a guarded call; its outcome is recorded exactly once.
+     */
+    private final class Attempt {
+
+        private final Permit permit;
+        private final long startNanos = System.nanoTime();
+        private final AtomicBoolean recorded = new AtomicBoolean();
+
+        // The thread running the attempt and whether it was cancelled, guarded by this
+        private Thread thread;
+        private boolean cancelled;
+
+        Attempt(Permit permit) {
+            this.permit = permit;
+        }
+
+        void succeeded() {
+            if (recorded.compareAndSet(false, true)) {
+                onSuccess(permit, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos));
+            }
+        }
+
+        void failed() {
+            if (recorded.compareAndSet(false, true)) {
+                onFailure(permit);
+            }
+        }
+
+        /**
+         * Abandon the attempt: give back its permit and interrupt the thread running it.
+         */
+        void cancel() {
+            if (recorded.compareAndSet(false, true)) {
+                release(permit);
+            }
+            interrupt();
+        }
+
+        /**
+         * Count the attempt as failed and interrupt the thread running it.
+         */
+        void timedOut() {
+            failed();
+            interrupt();
+        }
+
+        private synchronized void interrupt() {
+            cancelled = true;
+            if (thread != null) {
+                thread.interrupt();
+            }
+        }
+
+        synchronized boolean isCancelled() {
+            return cancelled;
+        }
+
+        /**
+         * Record the thread about to run the attempt.
+         *
+         * @return false if the attempt has already been cancelled
+         */
+        synchronized boolean bind(Thread runner) {
+            if (cancelled) {
+                return false;
+            }
+            thread = runner;
+            return true;
+        }
+
+        /**
+         * Forget the thread once the attempt has finished, so a late cancel cannot
+         * interrupt whatever the pooled thread runs next.
+         */
+        void unbind() {
+            synchronized (this) {
+                thread = null;
+                if (!cancelled) {
+                    return;
+                }
+            }
+            Thread.interrupted(); // Clear our interrupt before the thread is reused
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.telus.spring.ai.resume.service.impl;
+
+import org.springframework.ai.chat.metadata.Usage;
+import org.springframework.ai.chat.model.ChatResponse;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Records the token usage reported in chat responses, per prompt type.
+ */
+@Component
+public class AiUsageMetrics {
+
+    private final MeterRegistry meterRegistry;
+
+    public AiUsageMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Count the prompt and generation tokens of a chat response.
+     *
+     * @param operation The prompt type, e.g. explainMatch or parseResume
+     * @param response The chat response
+     * @return The response, for chaining
+     */
+    public ChatResponse record(String operation, ChatResponse response) {
+        Usage usage = response.getMetadata() != null ? response.getMetadata().getUsage() : null;
+        if (usage != null) {
+            count(operation, "prompt", usage.getPromptTokens());
+            count(operation, "generation", usage.getGenerationTokens());
+        }
+        return response;
+    }
+
+    private void count(String operation, String type, Long tokens) {
+        if (tokens != null && tokens > 0) {
+            meterRegistry.counter("resume.ai.tokens", "operation", operation, "type", type).increment(tokens);
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.telus.spring.ai.resume.service.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Runs an asynchronous task for each item of a list with at most a fixed number of tasks
+ * in flight. The next item is started as soon as a running task completes, so no thread
+ * waits on the tasks. Tasks that complete synchronously are chained in a loop rather than
+ * by recursion, so any number of them runs in constant stack depth.
+ *
+ * <p>Cancelling one of the returned futures cancels its task if it is running and skips it
+ * if it has not been started yet.
+ */
+final class BoundedParallel {
+
+    private BoundedParallel() {
+    }
+
+    /**
+     * Start the tasks for the items, at most {@code parallelism} at a time.
+     *
+     * @param items The items to process
+     * @param parallelism The maximum number of tasks in flight
+     * @param task Starts the asynchronous processing of one item
+     * @return One future per item, in item order, completing with the item's task
+     */
+    static <T, R> List<CompletableFuture<R>> start(List<T> items, int parallelism,
+                                                   Function<T, CompletableFuture<R>> task) {
+        List<CompletableFuture<R>> results = new ArrayList<>(items.size());
+        for (int i = 0; i < items.size(); i++) {
+            results.add(new CompletableFuture<>());
+        }
+
+        AtomicInteger next = new AtomicInteger();
+        for (int i = 0; i < Math.min(Math.max(parallelism, 1), items.size()); i++) {
+            advance(items, task, results, next, new AtomicInteger());
+        }
+
+        return results;
+    }
+
+    /**
+     * Cancel {@code source} when {@code dependent} is cancelled. Cancelling a dependent stage of a
+     * {@link CompletableFuture} does not reach the stages it was derived from; this links them.
+     *
+     * @param dependent The future handed to the caller
+     * @param source The future doing the work
+     * @return The dependent future
+     */
+    static <T> CompletableFuture<T> linkCancellation(CompletableFuture<T> dependent, CompletableFuture<?> source) {
+        dependent.whenComplete((result, ex) -> {
+            if (dependent.isCancelled()) {
+                source.cancel(true);
+            }
+        });
+        return dependent;
+    }
+
+    /**
+     * Start the next item in a slot that has become free. When a task completes while it is
+     * being started, its callback only counts the slot as free again and this loop starts the
+     * following item, instead of the callback recursing into a new start.
+     *
+     * @param freed Times the slot has been freed and not yet refilled; owned by the thread that
+     *              raised it from zero
+     */
+    private static <T, R> void advance(List<T> items, Function<T, CompletableFuture<R>> task,
+                                       List<CompletableFuture<R>> results, AtomicInteger next,
+                                       AtomicInteger freed) {
+        if (freed.getAndIncrement() != 0) {
+            return;
+        }
+        do {
+            startNext(items, task, results, next, freed);
+        } while (freed.decrementAndGet() != 0);
+    }
+
+    private static <T, R> void startNext(List<T> items, Function<T, CompletableFuture<R>> task,
+                                         List<CompletableFuture<R>> results, AtomicInteger next,
+                                         AtomicInteger freed) {
+        int claimed;
+        do {
+            claimed = next.getAndIncrement();
+            if (claimed >= items.size()) {
+                return;
+            }
+        } while (results.get(claimed).isDone()); // cancelled before it was started
+        int index = claimed;
+
+        CompletableFuture<R> future;
+        try {
+            future = task.apply(items.get(index));
+        } catch (RuntimeException e) {
+            future = CompletableFuture.failedFuture(e);
+        }
+
+        linkCancellation(results.get(index), future);
+        future.whenComplete((result, ex) -> {
+            if (ex != null) {
+                results.get(index).completeExceptionally(ex);
+            } else {
+                results.get(index).complete(result);
+            }
+            advance(items, task, results, next, freed);
+        });
+    }
+}
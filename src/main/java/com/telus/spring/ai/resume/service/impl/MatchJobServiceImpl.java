@@ -0,0 +1,250 @@
+package com.telus.spring.ai.resume.service.impl;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.Executor;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.telus.spring.ai.resume.model.MatchJob;
+import com.telus.spring.ai.resume.model.MatchJobStatus;
+import com.telus.spring.ai.resume.model.ResumeMatch;
+import com.telus.spring.ai.resume.model.ResumeResponse;
+import com.telus.spring.ai.resume.model.RetrievalMode;
+import com.telus.spring.ai.resume.service.CallPriority;
+import com.telus.spring.ai.resume.service.MatchJobService;
+import com.telus.spring.ai.resume.service.MatchProgressListener;
+import com.telus.spring.ai.resume.service.ResumeMatchingService;
+
+/**
+ * Implementation of MatchJobService backed by the match_jobs and match_results tables.
+ * Jobs run on the match job executor, so no HTTP request waits for the AI calls.
+ */
+@Service
+public class MatchJobServiceImpl implements MatchJobService {
+    
+    private static final Logger logger = LoggerFactory.getLogger(MatchJobServiceImpl.class);
+    
+    private final ResumeMatchingService matchingService;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    
+    @Autowired
+    @Qualifier("matchJobExecutor")
+    private Executor matchJobExecutor;
+    
+    public MatchJobServiceImpl(ResumeMatchingService matchingService, JdbcTemplate jdbcTemplate,
+                               PlatformTransactionManager transactionManager) {
+        this.matchingService = matchingService;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+    
+    @Override
+    public MatchJob submit(String jobDescription, int limit, RetrievalMode mode, String keywords) {
+        UUID jobId = UUID.randomUUID();
+        LocalDateTime now = LocalDateTime.now();
+        
+        jdbcTemplate.update(
+            "INSERT INTO match_jobs (id, job_description, result_limit, retrieval_mode, keywords, status, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?)",
+            jobId, jobDescription, limit, mode.name(), keywords, MatchJobStatus.QUEUED.name(),
+            Timestamp.valueOf(now), Timestamp.valueOf(now)
+        );
+        
+        logger.info("Queued match job {} (limit: {}, mode: {})", jobId, limit, mode);
+        
+        try {
+            matchJobExecutor.execute(() -> runJob(jobId, jobDescription, limit, mode, keywords));
+        } catch (RuntimeException e) {
+            // Executor saturated or shutting down
+            finishJob(jobId, MatchJobStatus.QUEUED, MatchJobStatus.FAILED, "Job could not be scheduled: " + e.getMessage());
+            throw e;
+        }
+        
+        return getJob(jobId).orElseThrow();
+    }
+    
+    @Override
+    public Optional<MatchJob> getJob(UUID jobId) {
+        return jdbcTemplate.query(
+            "SELECT id, status, result_limit, retrieval_mode, total, completed, error, created_at, finished_at " +
+            "FROM match_jobs WHERE id = ?",
+            (rs, rowNum) -> {
+                MatchJob job = new MatchJob();
+                job.setId(rs.getObject("id", UUID.class));
+                job.setStatus(MatchJobStatus.valueOf(rs.getString("status")));
+                job.setLimit(rs.getInt("result_limit"));
+                job.setRetrievalMode(RetrievalMode.valueOf(rs.getString("retrieval_mode")));
+                job.setTotal(rs.getObject("total", Integer.class));
+                job.setCompleted(rs.getInt("completed"));
+                job.setError(rs.getString("error"));
+                job.setCreatedAt(rs.getObject("created_at", LocalDateTime.class));
+                job.setFinishedAt(rs.getObject("finished_at", LocalDateTime.class));
+                return job;
+            },
+            jobId
+        ).stream().findFirst();
+    }
+    
+    @Override
+    public List<ResumeResponse> getResults(UUID jobId, int offset, int size) {
+        return jdbcTemplate.query(
+            "SELECT r.id, r.name, r.email, r.phone_number, r.uploaded_at, r.file_type, r.original_file_name, " +
+            "       mr.score, mr.similarity, mr.estimated, mr.explanation " +
+            "FROM match_results mr JOIN resumes r ON r.id = mr.resume_id " +
+            "WHERE mr.job_id = ? " +
+            "ORDER BY mr.rank " +
+            "OFFSET ? LIMIT ?",
+            (rs, rowNum) -> {
+                ResumeResponse response = new ResumeResponse();
+                response.setId(rs.getObject("id", UUID.class));
+                response.setName(rs.getString("name"));
+                response.setEmail(rs.getString("email"));
+                response.setPhoneNumber(rs.getString("phone_number"));
+                response.setUploadedAt(rs.getObject("uploaded_at", LocalDateTime.class));
+                response.setFileType(rs.getString("file_type"));
+                response.setOriginalFileName(rs.getString("original_file_name"));
+                response.setMatchScore(rs.getObject("score", Integer.class));
+                response.setSimilarity(rs.getObject("similarity", Double.class));
+                response.setMatchScoreEstimated(rs.getBoolean("estimated"));
+                response.setMatchExplanation(rs.getString("explanation"));
+                return response;
+            },
+            jobId, offset, size
+        );
+    }
+    
+    /**
+     * Run a job: score the candidates, recording progress as they complete,
+     * then store the ranked results and mark the job completed in one transaction.
+     * Every status change is conditional on the status it moves from, so a job that
+     * the cleanup has already failed is neither started nor completed afterwards.
+     */
+    private void runJob(UUID jobId, String jobDescription, int limit, RetrievalMode mode, String keywords) {
+        int started = jdbcTemplate.update(
+                "UPDATE match_jobs SET status = ?, updated_at = now() WHERE id = ? AND status = ?",
+                MatchJobStatus.RUNNING.name(), jobId, MatchJobStatus.QUEUED.name());
+        if (started == 0) {
+            logger.warn("Not running match job {}: it is no longer queued", jobId);
+            return;
+        }
+        logger.info("Running match job {}", jobId);
+        
+        try {
+            // Jobs run in the background lane so they never delay interactive matches
+            List<ResumeMatch> matches = matchingService.findMatchingResumes(jobDescription, limit, mode, keywords,
+                    CallPriority.BACKGROUND, new MatchProgressListener() {
+                        @Override
+                        public void onCandidates(int total) {
+                            jdbcTemplate.update("UPDATE match_jobs SET total = ?, updated_at = now() WHERE id = ? AND status = ?",
+                                    total, jobId, MatchJobStatus.RUNNING.name());
+                        }
+                        
+                        @Override
+                        public void onMatch(ResumeMatch match) {
+                            // Progress is informational; don't fail the job over it
+                            try {
+                                jdbcTemplate.update("UPDATE match_jobs SET completed = completed + 1, updated_at = now() " +
+                                        "WHERE id = ? AND status = ?", jobId, MatchJobStatus.RUNNING.name());
+                            } catch (Exception e) {
+                                logger.warn("Could not record progress of match job {}: {}", jobId, e.getMessage());
+                            }
+                        }
+                    });
+            
+            List<Object[]> batchArgs = new ArrayList<>(matches.size());
+            for (int i = 0; i < matches.size(); i++) {
+                ResumeMatch match = matches.get(i);
+                batchArgs.add(new Object[] {
+                    jobId,
+                    i + 1,
+                    match.getResume().getId(),
+                    match.getScore(),
+                    match.getSimilarity(),
+                    match.isEstimated(),
+                    match.getExplanation(),
+                    match.getResume().getId()
+                });
+            }
+            
+            // Candidates deleted while the job ran are skipped rather than failing the job
+            // on the foreign key; their rank is left out
+            boolean completed = transactionTemplate.execute(status -> {
+                jdbcTemplate.batchUpdate(
+                    "INSERT INTO match_results (job_id, rank, resume_id, score, similarity, estimated, explanation) " +
+                    "SELECT CAST(? AS uuid), CAST(? AS int), CAST(? AS uuid), CAST(? AS int), " +
+                    "       CAST(? AS double precision), CAST(? AS boolean), CAST(? AS text) " +
+                    "WHERE EXISTS (SELECT 1 FROM resumes WHERE id = ?)",
+                    batchArgs
+                );
+                if (!finishJob(jobId, MatchJobStatus.RUNNING, MatchJobStatus.COMPLETED, null)) {
+                    status.setRollbackOnly();
+                    return false;
+                }
+                return true;
+            });
+            
+            if (completed) {
+                logger.info("Match job {} completed with {} results", jobId, matches.size());
+            } else {
+                logger.warn("Discarding the results of match job {}: it was failed while running", jobId);
+            }
+        } catch (Exception e) {
+            logger.error("Match job {} failed", jobId, e);
+            finishJob(jobId, MatchJobStatus.RUNNING, MatchJobStatus.FAILED, e.getMessage());
+        }
+    }
+    
+    @Override
+    public int failStaleJobs(Duration staleAfter) {
+        int failed = jdbcTemplate.update(
+            "UPDATE match_jobs SET status = ?, error = ?, finished_at = now() " +
+            "WHERE finished_at IS NULL AND status IN (?, ?) " +
+            "AND coalesce(updated_at, created_at) < now() - ? * interval '1 second'",
+            MatchJobStatus.FAILED.name(), "Job made no progress for " + staleAfter.toMinutes() + " minutes and was abandoned",
+            MatchJobStatus.QUEUED.name(), MatchJobStatus.RUNNING.name(), staleAfter.toSeconds()
+        );
+        if (failed > 0) {
+            logger.warn("Failed {} match jobs that made no progress for {} minutes", failed, staleAfter.toMinutes());
+        }
+        return failed;
+    }
+    
+    @Override
+    public int deleteExpiredJobs(Duration retention) {
+        // Results are removed with their job by ON DELETE CASCADE
+        int deleted = jdbcTemplate.update(
+            "DELETE FROM match_jobs WHERE finished_at < now() - ? * interval '1 second'",
+            retention.toSeconds()
+        );
+        if (deleted > 0) {
+            logger.info("Deleted {} match jobs finished more than {} hours ago", deleted, retention.toHours());
+        }
+        return deleted;
+    }
+    
+    /**
+     * Move a job to a final status, if it still has the status it is expected to move from.
+     * 
+     * @return false if the job had another status and was left unchanged
+     */
+    private boolean finishJob(UUID jobId, MatchJobStatus from, MatchJobStatus status, String error) {
+        return jdbcTemplate.update(
+            "UPDATE match_jobs SET status = ?, error = ?, finished_at = ? WHERE id = ? AND status = ?",
+            status.name(), error, Timestamp.valueOf(LocalDateTime.now()), jobId, from.name()
+        ) > 0;
+    }
+}
@@ -10,23 +10,42 @@ import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.ai.document.Document;
 import org.springframework.ai.vectorstore.SearchRequest;
-import org.springframework.ai.vectorstore.VectorStore;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 
+import com.telus.spring.ai.resume.config.HybridVectorStore;
 import com.telus.spring.ai.resume.model.Resume;
+import com.telus.spring.ai.resume.model.ResumeContent;
 import com.telus.spring.ai.resume.model.ResumeMatch;
+import com.telus.spring.ai.resume.model.RetrievalMode;
+import com.telus.spring.ai.resume.repository.ResumeContentRepository;
 import com.telus.spring.ai.resume.repository.ResumeRepository;
+import com.telus.spring.ai.resume.service.AiCallGuard;
+import com.telus.spring.ai.resume.service.CallPriority;
+import com.telus.spring.ai.resume.service.MatchProgressListener;
 import com.telus.spring.ai.resume.service.ResumeMatchingService;
+import com.telus.spring.ai.resume.service.TooManyMatchesException;
 
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HexFormat;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.Executor;
-import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.stream.Collectors;
 
@@ -40,80 +59,384 @@ public class ResumeMatchingServiceImpl implements ResumeMatchingService {
     
     private static final Logger logger = LoggerFactory.getLogger(ResumeMatchingServiceImpl.class);
     
-    private  VectorStore vectorStore;
+    private final HybridVectorStore vectorStore;
     private final ChatClient chatClient;
+    private final AiCallGuard aiCallGuard;
+    private final AiUsageMetrics aiUsageMetrics;
     private final ResumeRepository resumeRepository;
+    private final ResumeContentRepository resumeContentRepository;
     private final String resumeMatchPrompt;
     
+    private final SingleFlight<String, List<ResumeMatch>> inFlightMatches = new SingleFlight<>(ArrayList::new);
+    private final SingleFlight<String, String> inFlightExplanations = new SingleFlight<>();
+    
     @Value("${resume.matching.ai-timeout-seconds:30}")
     private int aiOperationTimeoutSeconds;
     
+    @Value("${resume.matching.similarity.floor:0.2}")
+    private double similarityFloor;
+    
+    @Value("${resume.matching.similarity.ceiling:0.8}")
+    private double similarityCeiling;
+    
+    @Value("${resume.matching.parallelism:10}")
+    private int matchingParallelism;
+    
+    @Value("${resume.matching.retrieval-mode:VECTOR}")
+    private RetrievalMode defaultRetrievalMode;
+    
     @Autowired
     @Qualifier("resumeProcessingExecutor")
     private Executor resumeProcessingExecutor;
     
     @Autowired
-    @Qualifier("aiOperationsExecutor")
-    private Executor aiOperationsExecutor;
+    @Qualifier("backgroundExecutor")
+    private Executor backgroundExecutor;
+    
+    @Autowired
+    private ObservationRegistry observationRegistry;
     
     public ResumeMatchingServiceImpl(
-            @Qualifier("resumeVectorStore") VectorStore vectorStore,
-    	//	VectorStore vectorStore,
+            @Qualifier("resumeVectorStore") HybridVectorStore vectorStore,
             ChatClient.Builder builder,
+            AiCallGuard aiCallGuard,
+            AiUsageMetrics aiUsageMetrics,
             ResumeRepository resumeRepository,
+            ResumeContentRepository resumeContentRepository,
             @Qualifier("resumeMatchPrompt") String resumeMatchPrompt) {
         this.vectorStore = vectorStore;
         this.chatClient = builder.build();
+        this.aiCallGuard = aiCallGuard;
+        this.aiUsageMetrics = aiUsageMetrics;
         this.resumeRepository = resumeRepository;
+        this.resumeContentRepository = resumeContentRepository;
         this.resumeMatchPrompt = resumeMatchPrompt;
     }
     
     @Override
     public List<ResumeMatch> findMatchingResumes(String jobDescription, int limit) {
-        logger.info("Finding resumes matching job description: {}", jobDescription);
-        
-        // Search for similar documents in the vector store
-        List<Document> documents = vectorStore.similaritySearch(
-                SearchRequest.query(jobDescription)
-                        .withTopK(limit)
-                        .withFilterExpression("metadata.type == 'resume'")
-        );
-        
-        logger.info("Found {} matching documents", documents.size());
-        
-        // Process ALL documents in parallel instead of in batches
-        List<CompletableFuture<ResumeMatch>> futures = documents.stream()
-                .map(document -> processDocumentAsync(document, jobDescription))
-                .collect(Collectors.toList());
+        return findMatchingResumes(jobDescription, limit, defaultRetrievalMode, null);
+    }
+    
+    @Override
+    public CompletableFuture<List<ResumeMatch>> findMatchingResumesAsync(String jobDescription, int limit) {
+        return findMatchingResumesAsync(jobDescription, limit, defaultRetrievalMode, null);
+    }
+    
+    @Override
+    public List<ResumeMatch> findMatchingResumes(String jobDescription, int limit, RetrievalMode mode, String keywords) {
+        return await(findMatchingResumesAsync(jobDescription, limit, mode, keywords));
+    }
+    
+    /**
+     * Identical requests that arrive while one is running share its result instead of
+     * repeating the embedding and AI calls. Entries only live while the request runs,
+     * so results are never stale. The shared work is only cancelled once every request
+     * sharing it has cancelled its future.
+     */
+    @Override
+    public CompletableFuture<List<ResumeMatch>> findMatchingResumesAsync(String jobDescription, int limit,
+                                                                        RetrievalMode mode, String keywords) {
+        // Throws if the retrieval executor is saturated
+        return inFlightMatches.join(matchKey(jobDescription, limit, mode, keywords), () ->
+                doFindMatchingResumes(jobDescription, limit, mode, keywords, CallPriority.INTERACTIVE, null));
+    }
+    
+    @Override
+    public CompletableFuture<List<ResumeMatch>> findMatchingResumesAsync(String jobDescription, int limit,
+                                                                        RetrievalMode mode, String keywords,
+                                                                        Semaphore permits) {
+        // The permit is held by the shared work, not by each request joining it
+        return inFlightMatches.join(matchKey(jobDescription, limit, mode, keywords), () -> {
+            if (!permits.tryAcquire()) {
+                throw new TooManyMatchesException("Too many matches are running");
+            }
+            CompletableFuture<List<ResumeMatch>> matches;
+            try {
+                matches = doFindMatchingResumes(jobDescription, limit, mode, keywords, CallPriority.INTERACTIVE, null);
+            } catch (RuntimeException e) {
+                permits.release();
+                throw e;
+            }
+            matches.whenComplete((result, ex) -> permits.release());
+            return matches;
+        });
+    }
+    
+    /**
+     * Key identical match requests, so they can share one computation.
+     */
+    private String matchKey(String jobDescription, int limit, RetrievalMode mode, String keywords) {
+        return jobDescriptionKey(jobDescription) + "|" + limit + "|" + mode + "|"
+                + (keywords != null ? keywords.trim() : "");
+    }
+    
+    @Override
+    public List<ResumeMatch> findMatchingResumes(String jobDescription, int limit, RetrievalMode mode, String keywords,
+                                                 CallPriority priority, MatchProgressListener listener) {
+        return await(doFindMatchingResumes(jobDescription, limit, mode, keywords, priority, listener));
+    }
+    
+    /**
+     * Retrieve and score candidates without blocking the calling thread.
+     * Retrieval runs on the resume processing executor for interactive requests and on the
+     * background executor otherwise; scoring runs in the AI lane of the priority. The result
+     * completes when the last candidate has been scored.
+     * <p>
+     * Cancelling the result skips retrieval if it has not started yet, skips candidates
+     * that are still queued and cancels the AI calls in flight.
+     * <p>
+     * The request is observed as a resume.match span with child spans for retrieval, text
+     * loading and each candidate; the candidate spans parent the lookups and AI calls
+     * made for the candidate, whichever thread they run on.
+     * 
+     * @throws RejectedExecutionException If the retrieval executor is saturated
+     */
+    private CompletableFuture<List<ResumeMatch>> doFindMatchingResumes(String jobDescription, int limit,
+                                                                       RetrievalMode mode, String keywords,
+                                                                       CallPriority priority,
+                                                                       MatchProgressListener listener) {
+        Executor retrievalExecutor = priority == CallPriority.INTERACTIVE ? resumeProcessingExecutor : backgroundExecutor;
+        CompletableFuture<List<ResumeMatch>> result = new CompletableFuture<>();
+        Observation observation = Observation.createNotStarted("resume.match", observationRegistry)
+                .lowCardinalityKeyValue("mode", mode.name())
+                .lowCardinalityKeyValue("priority", priority.name())
+                .highCardinalityKeyValue("limit", String.valueOf(limit))
+                .start();
+        result.whenComplete((matches, ex) -> {
+            if (ex != null) {
+                observation.error(ex);
+            }
+            observation.stop();
+        });
         
-        // Wait for ALL futures to complete
-        List<ResumeMatch> matches = futures.stream()
-                .map(CompletableFuture::join)  // This will wait for completion
+        Runnable retrieval = () -> {
+            if (result.isDone()) {
+                logger.info("Match request cancelled before retrieval");
+                return;
+            }
+            try (Observation.Scope scope = observation.openScope()) {
+                List<CompletableFuture<ResumeMatch>> candidates =
+                        scoreCandidates(jobDescription, limit, mode, keywords, priority, listener, observation);
+                result.whenComplete((matches, ex) -> {
+                    if (result.isCancelled()) {
+                        logger.info("Match request cancelled, cancelling {} candidates", candidates.size());
+                        candidates.forEach(candidate -> candidate.cancel(true));
+                    }
+                });
+                
+                // Complete once ALL candidates have completed, without blocking a thread on them
+                CompletableFuture.allOf(candidates.toArray(new CompletableFuture<?>[0]))
+                    .whenComplete((ignored, ex) -> result.complete(rank(candidates)));
+            } catch (RuntimeException e) {
+                result.completeExceptionally(e);
+            }
+        };
+        try {
+            retrievalExecutor.execute(retrieval);
+        } catch (RejectedExecutionException e) {
+            result.completeExceptionally(e);
+            throw e;
+        }
+        return result;
+    }
+    
+    /**
+     * Collect the scored candidates, best first.
+     * 
+     * @param candidates The completed candidate futures
+     * @return The matches ordered by score
+     */
+    private List<ResumeMatch> rank(List<CompletableFuture<ResumeMatch>> candidates) {
+        List<ResumeMatch> matches = candidates.stream()
+                .filter(candidate -> !candidate.isCompletedExceptionally()) // Cancelled
+                .map(CompletableFuture::join)  // All complete at this point
                 .filter(Objects::nonNull)      // Filter out any nulls (failed processing)
                 .collect(Collectors.toList());
         
+        // Rank by score; estimated scores are calibrated to the same 0-100 range, and
+        // the stable sort keeps retrieval order among equal scores
+        matches.sort(Comparator.comparing(ResumeMatch::getScore, Comparator.reverseOrder()));
+        
         logger.info("Processed total of {} matches", matches.size());
         
         return matches;
     }
     
+    private List<CompletableFuture<ResumeMatch>> scoreCandidates(String jobDescription, int limit, RetrievalMode mode,
+                                                                 String keywords, CallPriority priority,
+                                                                 MatchProgressListener listener, Observation parent) {
+        logger.info("Finding resumes matching job description ({} retrieval): {}", mode, jobDescription);
+        
+        SearchRequest request = SearchRequest.query(jobDescription)
+                .withTopK(limit)
+                .withFilterExpression("metadata.type == 'resume'");
+        
+        // Vector search alone misses exact skill and certification terms; hybrid
+        // retrieval fuses it with the keyword ranking
+        List<Document> documents = Observation.createNotStarted("resume.match.retrieve", observationRegistry)
+                .lowCardinalityKeyValue("mode", mode.name())
+                .observe(() -> mode == RetrievalMode.HYBRID
+                        ? vectorStore.hybridSearch(request, keywords)
+                        : vectorStore.similaritySearch(request));
+        
+        logger.info("Found {} matching documents", documents.size());
+        if (listener != null) {
+            listener.onCandidates(documents.size());
+        }
+        
+        // Search results carry no text; fetch it for all candidates in one query
+        Map<UUID, String> resumeTexts = Observation.createNotStarted("resume.match.load-texts", observationRegistry)
+                .observe(() -> loadResumeTexts(documents));
+        
+        // Score the candidates with at most matchingParallelism AI calls in flight
+        return BoundedParallel.start(documents, matchingParallelism, document -> {
+            CompletableFuture<ResumeMatch> scored =
+                    scoreCandidate(document, resumeTexts.get(resumeIdOf(document)), jobDescription, priority, parent);
+            return BoundedParallel.linkCancellation(scored.thenApply(match -> {
+                if (match != null && listener != null) {
+                    listener.onMatch(match);
+                }
+                return match;
+            }), scored);
+        });
+    }
+    
+    /**
+     * Wait for a future, rethrowing the original exception if it failed.
+     */
+    private static <T> T await(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+    
+    /**
+     * Load the full text of the resumes referenced by search results in a single query.
+     * 
+     * @param documents The search results
+     * @return The resume texts keyed by resume ID
+     */
+    private Map<UUID, String> loadResumeTexts(List<Document> documents) {
+        List<UUID> resumeIds = documents.stream()
+                .map(this::resumeIdOf)
+                .toList();
+        
+        Map<UUID, String> texts = new HashMap<>();
+        for (ResumeContent content : resumeContentRepository.findAllById(resumeIds)) {
+            texts.put(content.getResumeId(), content.getFullText());
+        }
+        return texts;
+    }
+    
+    /**
+     * Get the resume ID referenced by a search result.
+     * 
+     * @param document The search result
+     * @return The resume ID
+     */
+    private UUID resumeIdOf(Document document) {
+        return UUID.fromString(document.getMetadata().get("resumeId").toString());
+    }
+    
+    /**
+     * Get a key identifying a job description regardless of case and whitespace.
+     * 
+     * @param jobDescription The job description
+     * @return The SHA-256 hash of the normalized job description
+     */
+    private String jobDescriptionKey(String jobDescription) {
+        String normalized = jobDescription.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(normalized.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+    
+    /**
+     * Get the semantic similarity of a search result to the query.
+     * 
+     * @param document The search result
+     * @return 1 - cosine distance, or null if the result has no distance
+     */
+    private Double similarityOf(Document document) {
+        Object distance = document.getMetadata().get("distance");
+        return distance instanceof Number number ? 1.0 - number.doubleValue() : null;
+    }
+    
+    /**
+     * Map a similarity onto the 0-100 match score range.
+     * Similarities at or below the floor score 0 and at or above the ceiling score 100;
+     * raw cosine similarities of embeddings cluster in a narrow band, so a linear
+     * stretch of that band is closer to the AI scores than the raw value.
+     * 
+     * @param similarity The semantic similarity, or null if unknown
+     * @return The estimated match score
+     */
+    private int calibratedScore(Double similarity) {
+        if (similarity == null) {
+            return 0;
+        }
+        double scaled = (similarity - similarityFloor) / (similarityCeiling - similarityFloor);
+        return (int) Math.round(Math.max(0.0, Math.min(1.0, scaled)) * 100);
+    }
+    
     /**
-     * Process a document asynchronously to create a ResumeMatch.
-     * This implementation uses true parallel AI calls for better performance.
+     * Score a candidate asynchronously to create a ResumeMatch.
+     * Only the AI call runs asynchronously, on the AI operations executor; building the
+     * resume runs on the calling thread.
      * 
      * @param document The document to process
+     * @param fullText The full text of the resume referenced by the document
      * @param jobDescription The job description to match against
+     * @param priority The AI lane to run the call in
+     * @param parent The observation of the match request
      * @return A CompletableFuture that will contain the ResumeMatch when complete
      */
-    @Async("resumeProcessingExecutor")
-    public CompletableFuture<ResumeMatch> processDocumentAsync(Document document, String jobDescription) {
+    private CompletableFuture<ResumeMatch> scoreCandidate(Document document, String fullText, String jobDescription,
+                                                          CallPriority priority, Observation parent) {
+        // Candidates are started from whichever thread finished the previous one, so the
+        // parent is set explicitly rather than taken from the current thread
+        Observation observation = Observation.createNotStarted("resume.match.candidate", observationRegistry)
+                .parentObservation(parent)
+                .lowCardinalityKeyValue("estimated", "false")
+                .highCardinalityKeyValue("resume.id", String.valueOf(document.getMetadata().get("resumeId")))
+                .start();
+        
+        CompletableFuture<ResumeMatch> scored;
+        try (Observation.Scope scope = observation.openScope()) {
+            scored = startScoring(document, fullText, jobDescription, priority);
+        }
+        scored.whenComplete((match, ex) -> {
+            if (match != null && match.isEstimated()) {
+                observation.lowCardinalityKeyValue("estimated", "true");
+            }
+            if (ex != null) {
+                observation.error(ex);
+            }
+            observation.stop();
+        });
+        return scored;
+    }
+    
+    /**
+     * Build the resume of a candidate and start its AI scoring, within the candidate's observation.
+     */
+    private CompletableFuture<ResumeMatch> startScoring(Document document, String fullText, String jobDescription,
+                                                        CallPriority priority) {
         try {
             // Extract metadata
             Map<String, Object> metadata = document.getMetadata();
             
             // Get resume ID from metadata
-            String resumeIdStr = metadata.get("resumeId").toString();
-            UUID resumeId = UUID.fromString(resumeIdStr);
+            UUID resumeId = resumeIdOf(document);
             
             // Create Resume object directly from metadata if possible
             Resume resume;
@@ -128,7 +451,6 @@ public class ResumeMatchingServiceImpl implements ResumeMatchingService {
                 resume.setName(metadata.get("name").toString());
                 resume.setEmail(metadata.get("email").toString());
                 resume.setPhoneNumber(metadata.get("phoneNumber").toString());
-                resume.setFullText(document.getContent());
                 
                 if (metadata.containsKey("fileType")) {
                     resume.setFileType(metadata.get("fileType").toString());
@@ -139,23 +461,44 @@ public class ResumeMatchingServiceImpl implements ResumeMatchingService {
                 }
             } else {
                 // Get resume from database if metadata is incomplete
-                resume = resumeRepository.findById(resumeId)
+                resume = Observation.createNotStarted("resume.match.resume-lookup", observationRegistry)
+                        .observe(() -> resumeRepository.findById(resumeId))
+                        .map(Resume::new) // copy - the lookup may have come from the cache
                         .orElseThrow(() -> new IllegalStateException("Resume not found with ID: " + resumeId));
             }
             
-            // Generate explanation asynchronously
-            return explainMatchAsync(resume, jobDescription)
+            resume.setFullText(fullText != null ? fullText : "");
+            Double similarity = similarityOf(document);
+            
+            // Generate explanation asynchronously; cancelling the match cancels the AI call
+            CompletableFuture<String> explanationFuture = requestExplanation(resume, jobDescription, priority);
+            return BoundedParallel.linkCancellation(explanationFuture
                 .thenApply(explanation -> {
                     int score = extractScoreFromExplanation(explanation);
                     ResumeMatch match = new ResumeMatch(resume, score, explanation);
+                    match.setSimilarity(similarity);
                     logger.info("Processed match for resume: {}, score: {}", resumeId, score);
                     return match;
                 })
                 .exceptionally(ex -> {
-                    logger.error("Error generating explanation for resume: {}", resumeId, ex);
-                    // Return a match with default values in case of error
-                    return new ResumeMatch(resume, 0, "Unable to generate explanation due to an error: " + ex.getMessage());
-                });
+                    Throwable cause = ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex;
+                    if (cause instanceof CancellationException) {
+                        return null;
+                    }
+                    
+                    // Degraded mode: still return the candidate, scored by its similarity
+                    String reason = cause instanceof TimeoutException
+                            ? "the AI service took too long to respond"
+                            : "the AI service is unavailable";
+                    logger.warn("Falling back to similarity score for resume: {} ({})", resumeId, cause.toString());
+                    
+                    ResumeMatch match = new ResumeMatch(resume, calibratedScore(similarity),
+                            "No explanation available because " + reason + ". "
+                            + "The score is estimated from semantic similarity.");
+                    match.setSimilarity(similarity);
+                    match.setEstimated(true);
+                    return match;
+                }), explanationFuture);
         } catch (Exception e) {
             logger.error("Error processing document: {}", document.getId(), e);
             return CompletableFuture.completedFuture(null);
@@ -177,12 +520,11 @@ public class ResumeMatchingServiceImpl implements ResumeMatchingService {
             ));
             
             // Get the response from the AI
-            String explanation = chatClient.prompt(prompt)
-                    .call()
-                    .chatResponse()
+            String explanation = aiCallGuard.call("explainMatch", () -> aiUsageMetrics.record("explainMatch",
+                            chatClient.prompt(prompt).call().chatResponse())
                     .getResult()
                     .getOutput()
-                    .getContent();
+                    .getContent(), aiOperationTimeoutSeconds);
             
             logger.info("Generated explanation for resume: {}", resume.getId());
             
@@ -195,7 +537,8 @@ public class ResumeMatchingServiceImpl implements ResumeMatchingService {
     
     /**
      * Generate an explanation asynchronously for a resume match.
-     * This method makes the AI call directly in the async thread for true parallelism.
+     * The AI call runs on the AI operations executor and this method returns immediately,
+     * so it is deliberately not @Async: the proxy would block an executor thread on the result.
      * Includes timeout handling to prevent hanging on slow AI responses.
      * 
      * @param resume The resume to explain
@@ -203,8 +546,39 @@ public class ResumeMatchingServiceImpl implements ResumeMatchingService {
      * @return A CompletableFuture that will contain the explanation when complete
      */
     @Override
-    @Async("aiOperationsExecutor")
     public CompletableFuture<String> explainMatchAsync(Resume resume, String jobDescription) {
+        CompletableFuture<String> explanation = requestExplanation(resume, jobDescription, CallPriority.INTERACTIVE);
+        return BoundedParallel.linkCancellation(explanation
+            .exceptionally(ex -> {
+                if (ex instanceof TimeoutException) {
+                    logger.error("Timeout generating explanation for resume: {}", resume.getId());
+                    return "Unable to generate explanation due to timeout. The AI service took too long to respond.";
+                } else {
+                    logger.error("Error generating explanation for resume: {}", resume.getId(), ex);
+                    return "Unable to generate explanation due to an error: " + ex.getMessage();
+                }
+            }), explanation);
+    }
+    
+    /**
+     * Request an explanation from the AI through the AI call guard.
+     * Unlike {@link #explainMatchAsync}, failures and timeouts complete the future
+     * exceptionally so callers can fall back to another score. Cancelling the returned
+     * future cancels the AI call unless another caller still waits for the same explanation.
+     * 
+     * @param resume The resume to explain
+     * @param jobDescription The job description to match against
+     * @param priority The AI lane to run the call in
+     * @return A CompletableFuture that will contain the explanation when complete
+     */
+    private CompletableFuture<String> requestExplanation(Resume resume, String jobDescription, CallPriority priority) {
+        // Share an in-flight explanation of the same resume for the same job description.
+        // The lane is part of the key: an interactive caller must not wait in the background lane.
+        String key = priority + "|" + resume.getId() + "|" + jobDescriptionKey(jobDescription);
+        return inFlightExplanations.join(key, () -> generateExplanation(resume, jobDescription, priority));
+    }
+    
+    private CompletableFuture<String> generateExplanation(Resume resume, String jobDescription, CallPriority priority) {
         logger.info("Generating async explanation for resume: {}", resume.getId());
         
         try {
@@ -217,41 +591,13 @@ public class ResumeMatchingServiceImpl implements ResumeMatchingService {
                     "resumeText", resume.getFullText()
             ));
             
-            // Create a CompletableFuture for the AI call
-            CompletableFuture<String> aiCallFuture = new CompletableFuture<>();
-            
-            // Execute the AI call in a separate thread
-            CompletableFuture.runAsync(() -> {
-                try {
-                    // Get the response from the AI
-                    String explanation = chatClient.prompt(prompt)
-                            .call()
-                            .chatResponse()
-                            .getResult()
-                            .getOutput()
-                            .getContent();
-                    
-                    // Complete the future with the result
-                    aiCallFuture.complete(explanation);
-                    logger.info("Generated async explanation for resume: {}", resume.getId());
-                } catch (Exception e) {
-                    // Complete the future exceptionally if there's an error
-                    aiCallFuture.completeExceptionally(e);
-                    logger.error("Error in AI call for resume: {}", resume.getId(), e);
-                }
-            }, aiOperationsExecutor);
-            
-            // Add timeout handling - configurable timeout
-            return aiCallFuture.orTimeout(aiOperationTimeoutSeconds, TimeUnit.SECONDS)
-                .exceptionally(ex -> {
-                    if (ex instanceof TimeoutException) {
-                        logger.error("Timeout generating explanation for resume: {}", resume.getId());
-                        return "Unable to generate explanation due to timeout. The AI service took too long to respond.";
-                    } else {
-                        logger.error("Error generating explanation for resume: {}", resume.getId(), ex);
-                        return "Unable to generate explanation due to an error: " + ex.getMessage();
-                    }
-                });
+            // Execute the AI call on the AI operations executor behind the circuit breaker,
+            // with configurable timeout and optional hedging
+            return aiCallGuard.callAsync("explainMatch", priority, () -> aiUsageMetrics.record("explainMatch",
+                            chatClient.prompt(prompt).call().chatResponse())
+                    .getResult()
+                    .getOutput()
+                    .getContent(), aiOperationTimeoutSeconds);
         } catch (Exception e) {
             logger.error("Error setting up async explanation for resume: {}", resume.getId(), e);
             CompletableFuture<String> future = new CompletableFuture<>();
@@ -266,7 +612,7 @@ public class ResumeMatchingServiceImpl implements ResumeMatchingService {
      * @param explanation The explanation text from the AI
      * @return The match score as a value between 0 and 100
      */
-    public int extractScoreFromExplanation(String explanation) {
+    public static int extractScoreFromExplanation(String explanation) {
         try {
             // Look for "MATCH SCORE: [X/100]" pattern
             String[] lines = explanation.split("\n");
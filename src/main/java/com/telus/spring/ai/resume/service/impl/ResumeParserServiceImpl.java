@@ -3,6 +3,8 @@ package com.telus.spring.ai.resume.service.impl;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.telus.spring.ai.resume.model.ResumeParseResult;
+import com.telus.spring.ai.resume.service.AiCallGuard;
+import com.telus.spring.ai.resume.service.CallPriority;
 import com.telus.spring.ai.resume.service.ResumeParserService;
 
 import org.apache.pdfbox.pdmodel.PDDocument;
@@ -16,18 +18,22 @@ import org.springframework.ai.chat.prompt.Prompt;
 import org.springframework.ai.chat.prompt.PromptTemplate;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
 import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.Executor;
 import java.util.stream.Collectors;
 
@@ -43,32 +49,69 @@ public class ResumeParserServiceImpl implements ResumeParserService {
     
     private final ChatClient chatClient;
     private final ObjectMapper objectMapper;
+    private final AiCallGuard aiCallGuard;
+    private final AiUsageMetrics aiUsageMetrics;
+    private final MeterRegistry meterRegistry;
+    
+    @Value("${resume.parser.ai-timeout-seconds:60}")
+    private int aiTimeoutSeconds;
+    
+    @Value("${resume.parser.parallelism:4}")
+    private int parserParallelism;
     
     @Autowired
-    @Qualifier("resumeProcessingExecutor")
-    private Executor resumeProcessingExecutor;
+    @Qualifier("backgroundExecutor")
+    private Executor backgroundExecutor;
     
-    public ResumeParserServiceImpl(ChatClient.Builder builder, ObjectMapper objectMapper) {
+    public ResumeParserServiceImpl(ChatClient.Builder builder, ObjectMapper objectMapper, AiCallGuard aiCallGuard,
+                                   AiUsageMetrics aiUsageMetrics, MeterRegistry meterRegistry) {
         this.chatClient = builder.build();
         this.objectMapper = objectMapper;
+        this.aiCallGuard = aiCallGuard;
+        this.aiUsageMetrics = aiUsageMetrics;
+        this.meterRegistry = meterRegistry;
     }
     
     @Override
     public ResumeParseResult parseResume(MultipartFile file) throws IOException {
+        return parseResume(file, CallPriority.INTERACTIVE);
+    }
+    
+    /**
+     * Parse a resume, running the AI extraction in the lane of the given priority.
+     * 
+     * @param file The file to parse
+     * @param priority The AI lane for the extraction call
+     * @return The parsed resume data
+     * @throws IOException If there is an error reading the file
+     */
+    private ResumeParseResult parseResume(MultipartFile file, CallPriority priority) throws IOException {
         String originalFilename = file.getOriginalFilename();
         String fileType = getFileType(originalFilename);
-        String content = extractText(file, fileType);
-        
-        // Extract structured information using AI
-        Map<String, String> extractedInfo = extractInformation(content);
-        
-        return new ResumeParseResult(
-                extractedInfo.get("name"),
-                extractedInfo.get("email"),
-                extractedInfo.get("phoneNumber"),
-                content,
-                fileType
-        );
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "failure";
+        try {
+            String content = extractText(file, fileType);
+            
+            // Extract structured information using AI
+            Map<String, String> extractedInfo = extractInformation(content, priority);
+            outcome = "success";
+            
+            return new ResumeParseResult(
+                    extractedInfo.get("name"),
+                    extractedInfo.get("email"),
+                    extractedInfo.get("phoneNumber"),
+                    content,
+                    fileType
+            );
+        } finally {
+            // Unsupported extensions share one tag to keep the tag values bounded
+            String fileTypeTag = switch (fileType.toLowerCase()) {
+                case "pdf", "docx", "txt" -> fileType.toLowerCase();
+                default -> "other";
+            };
+            sample.stop(meterRegistry.timer("resume.parse", "fileType", fileTypeTag, "outcome", outcome));
+        }
     }
     
     @Override
@@ -90,13 +133,18 @@ public class ResumeParserServiceImpl implements ResumeParserService {
     public List<CompletableFuture<ResumeParseResult>> parseResumesInParallel(List<MultipartFile> files) {
         logger.info("Processing {} resumes in parallel", files.size());
         
-        List<CompletableFuture<ResumeParseResult>> futures = new ArrayList<>();
-        
-        for (MultipartFile file : files) {
-            futures.add(parseResumeAsync(file));
-        }
-        
-        return futures;
+        // Calling parseResumeAsync here would bypass the @Async proxy and parse sequentially,
+        // so submit explicitly, with at most parserParallelism files in flight. Bulk parsing
+        // is background work: it runs on the background executor and AI lane.
+        return BoundedParallel.start(files, parserParallelism, file -> CompletableFuture.supplyAsync(() -> {
+            try {
+                logger.info("Processing resume asynchronously: {}", file.getOriginalFilename());
+                return parseResume(file, CallPriority.BACKGROUND);
+            } catch (IOException e) {
+                logger.error("Error processing resume asynchronously: {}", file.getOriginalFilename(), e);
+                throw new CompletionException(e);
+            }
+        }, backgroundExecutor));
     }
     
     /**
@@ -127,7 +175,7 @@ public class ResumeParserServiceImpl implements ResumeParserService {
      * @return The extracted text
      * @throws IOException If there is an error reading the file
      */
-    private String extractTextFromPdf(InputStream inputStream) throws IOException {
+    static String extractTextFromPdf(InputStream inputStream) throws IOException {
         try (PDDocument document = PDDocument.load(inputStream)) {
             PDFTextStripper stripper = new PDFTextStripper();
             return stripper.getText(document);
@@ -141,7 +189,7 @@ public class ResumeParserServiceImpl implements ResumeParserService {
      * @return The extracted text
      * @throws IOException If there is an error reading the file
      */
-    private String extractTextFromDocx(InputStream inputStream) throws IOException {
+    static String extractTextFromDocx(InputStream inputStream) throws IOException {
         try (XWPFDocument document = new XWPFDocument(inputStream)) {
             XWPFWordExtractor extractor = new XWPFWordExtractor(document);
             return extractor.getText();
@@ -184,25 +232,15 @@ public class ResumeParserServiceImpl implements ResumeParserService {
      * Extract structured information from resume text using AI.
      * 
      * @param resumeText The resume text to extract information from
+     * @param priority The AI lane for the extraction call
      * @return A map of extracted information
      */
-    private Map<String, String> extractInformation(String resumeText) {
+    private Map<String, String> extractInformation(String resumeText, CallPriority priority) {
         try {
-            // Pre-process the resume text to remove problematic characters and normalize whitespace
-            String cleanedText = resumeText
-                    .replaceAll("[\\p{Cntrl}&&[^\r\n\t]]", "") // Remove control chars except newlines and tabs
-                    .replaceAll("\\p{Zs}+", " ") // Normalize spaces
-                    .replaceAll("\\n\\s*\\n+", "\n\n") // Normalize multiple blank lines
-                    .trim(); // Remove leading/trailing whitespace
-                    
-            // Limit text length if it's too long (LLMs have context limits)
-            if (cleanedText.length() > 15000) {
-                cleanedText = cleanedText.substring(0, 15000);
-                logger.info("Resume text truncated to 15000 characters");
-            }
+            String finalText = cleanResumeText(resumeText);
             
-            // Use the fluent API instead of PromptTemplate
-            String response = chatClient.prompt()
+            // Use the fluent API instead of PromptTemplate; bounded by the parser timeout
+            String response = aiCallGuard.call("parseResume", priority, () -> aiUsageMetrics.record("parseResume", chatClient.prompt()
                     .system("You are a resume parser. Extract information from the resume and format as JSON.")
                     .user("Extract the following information from this resume:\n" +
                           "1. Full name\n" +
@@ -214,9 +252,12 @@ public class ResumeParserServiceImpl implements ResumeParserService {
                           "  \"email\": \"...\",\n" +
                           "  \"phoneNumber\": \"...\"\n" +
                           "}\n\n" +
-                          "Resume text:\n" + cleanedText)
+                          "Resume text:\n" + finalText)
                     .call()
-                    .content();
+                    .chatResponse())
+                    .getResult()
+                    .getOutput()
+                    .getContent(), aiTimeoutSeconds);
             
             // Extract JSON from the response (in case there's additional text)
             String jsonStr = extractJsonFromResponse(response);
@@ -237,62 +278,9 @@ public class ResumeParserServiceImpl implements ResumeParserService {
                 // If we have a response but JSON parsing failed
                 if (e.getMessage() != null && e.getMessage().contains("JSON")) {
                     logger.info("Attempting to extract information using regex patterns");
-                    
-                    // Extract information using regex patterns as a fallback
-                    // Try multiple patterns for each field to increase chances of extraction
-                    
-                    // Name patterns - try multiple approaches
-                    String name = extractPattern(resumeText, "(?i)(?:name|full name)[:\\s]*(.*?)(?:\\n|$)");
-                    if (name == null) {
-                        // Try to find a name at the beginning of the resume (first line)
-                        String[] lines = resumeText.split("\\n");
-                        if (lines.length > 0 && !lines[0].trim().isEmpty()) {
-                            name = lines[0].trim();
-                        }
-                    }
-                    if (name == null) {
-                        // Try to find a name pattern at the beginning of the resume
-                        name = extractPattern(resumeText, "^\\s*([A-Z][a-z]+(\\s+[A-Z][a-z]+){1,3})\\s*$");
-                    }
-                    
-                    // Email patterns - try multiple approaches
-                    String email = extractPattern(resumeText, "(?i)(?:e-?mail)[:\\s]*([a-zA-Z0-9._%+-]+@[a-zA-Z0-9.-]+\\.[a-zA-Z]{2,})");
-                    if (email == null) {
-                        // Try the specific format from the example resume
-                        email = extractPattern(resumeText, "E-Mail:\\s*([a-zA-Z0-9._%+-]+@[a-zA-Z0-9.-]+\\.[a-zA-Z]{2,})");
-                    }
-                    if (email == null) {
-                        // Try to find any email address in the text
-                        email = extractPattern(resumeText, "([a-zA-Z0-9._%+-]+@[a-zA-Z0-9.-]+\\.[a-zA-Z]{2,})");
-                    }
-                    
-                    // Phone patterns - try multiple approaches
-                    String phone = extractPattern(resumeText, "(?i)(?:phone|mobile|cell|contact)[:\\s]*([0-9+\\s()-]{7,})");
-                    if (phone == null) {
-                        // Try the specific format from the example resume
-                        phone = extractPattern(resumeText, "Mobile No:\\s*([0-9+\\s/()-]{7,})");
-                    }
-                    if (phone == null) {
-                        // Try to find phone numbers with specific formats
-                        phone = extractPattern(resumeText, "(\\+?[0-9]{1,3}[\\s-]?[0-9]{3,4}[\\s-]?[0-9]{3,4}[\\s-]?[0-9]{3,4})");
-                    }
-                    if (phone == null) {
-                        // Try to find any sequence of digits that looks like a phone number
-                        phone = extractPattern(resumeText, "([0-9]{3,4}[\\s-]?[0-9]{3,4}[\\s-]?[0-9]{3,4})");
-                    }
-                    
-                    // Log what we found
-                    logger.info("Extracted via regex - Name: {}, Email: {}, Phone: {}", 
-                            name != null ? name : "Not found",
-                            email != null ? email : "Not found",
-                            phone != null ? phone : "Not found");
-                    
-                    if (name != null || email != null || phone != null) {
-                        return Map.of(
-                                "name", name != null ? name : "Unknown",
-                                "email", email != null ? email : "unknown@example.com",
-                                "phoneNumber", phone != null ? phone : "Unknown"
-                        );
+                    Map<String, String> extracted = extractWithPatterns(resumeText);
+                    if (extracted != null) {
+                        return extracted;
                     }
                 }
             } catch (Exception ex) {
@@ -308,6 +296,93 @@ public class ResumeParserServiceImpl implements ResumeParserService {
         }
     }
     
+    /**
+     * Pre-process resume text for the AI: remove control characters, normalize whitespace
+     * and cut it to the length the model accepts.
+     * 
+     * @param resumeText The extracted resume text
+     * @return The cleaned text
+     */
+    static String cleanResumeText(String resumeText) {
+        String cleanedText = resumeText
+                .replaceAll("[\\p{Cntrl}&&[^\r\n\t]]", "") // Remove control chars except newlines and tabs
+                .replaceAll("\\p{Zs}+", " ") // Normalize spaces
+                .replaceAll("\\n\\s*\\n+", "\n\n") // Normalize multiple blank lines
+                .trim(); // Remove leading/trailing whitespace
+                
+        // Limit text length if it's too long (LLMs have context limits)
+        if (cleanedText.length() > 15000) {
+            cleanedText = cleanedText.substring(0, 15000);
+            logger.info("Resume text truncated to 15000 characters");
+        }
+        return cleanedText;
+    }
+    
+    /**
+     * Extract the contact information with regex patterns, the fallback when the AI
+     * response cannot be parsed.
+     * Tries multiple patterns for each field to increase chances of extraction.
+     * 
+     * @param resumeText The resume text
+     * @return The extracted information, or null if no field was found
+     */
+    static Map<String, String> extractWithPatterns(String resumeText) {
+        // Name patterns - try multiple approaches
+        String name = extractPattern(resumeText, "(?i)(?:name|full name)[:\\s]*(.*?)(?:\\n|$)");
+        if (name == null) {
+            // Try to find a name at the beginning of the resume (first line)
+            String[] lines = resumeText.split("\\n");
+            if (lines.length > 0 && !lines[0].trim().isEmpty()) {
+                name = lines[0].trim();
+            }
+        }
+        if (name == null) {
+            // Try to find a name pattern at the beginning of the resume
+            name = extractPattern(resumeText, "^\\s*([A-Z][a-z]+(\\s+[A-Z][a-z]+){1,3})\\s*$");
+        }
+        
+        // Email patterns - try multiple approaches
+        String email = extractPattern(resumeText, "(?i)(?:e-?mail)[:\\s]*([a-zA-Z0-9._%+-]+@[a-zA-Z0-9.-]+\\.[a-zA-Z]{2,})");
+        if (email == null) {
+            // Try the specific format from the example resume
+            email = extractPattern(resumeText, "E-Mail:\\s*([a-zA-Z0-9._%+-]+@[a-zA-Z0-9.-]+\\.[a-zA-Z]{2,})");
+        }
+        if (email == null) {
+            // Try to find any email address in the text
+            email = extractPattern(resumeText, "([a-zA-Z0-9._%+-]+@[a-zA-Z0-9.-]+\\.[a-zA-Z]{2,})");
+        }
+        
+        // Phone patterns - try multiple approaches
+        String phone = extractPattern(resumeText, "(?i)(?:phone|mobile|cell|contact)[:\\s]*([0-9+\\s()-]{7,})");
+        if (phone == null) {
+            // Try the specific format from the example resume
+            phone = extractPattern(resumeText, "Mobile No:\\s*([0-9+\\s/()-]{7,})");
+        }
+        if (phone == null) {
+            // Try to find phone numbers with specific formats
+            phone = extractPattern(resumeText, "(\\+?[0-9]{1,3}[\\s-]?[0-9]{3,4}[\\s-]?[0-9]{3,4}[\\s-]?[0-9]{3,4})");
+        }
+        if (phone == null) {
+            // Try to find any sequence of digits that looks like a phone number
+            phone = extractPattern(resumeText, "([0-9]{3,4}[\\s-]?[0-9]{3,4}[\\s-]?[0-9]{3,4})");
+        }
+        
+        // Log what we found
+        logger.info("Extracted via regex - Name: {}, Email: {}, Phone: {}", 
+                name != null ? name : "Not found",
+                email != null ? email : "Not found",
+                phone != null ? phone : "Not found");
+        
+        if (name != null || email != null || phone != null) {
+            return Map.of(
+                    "name", name != null ? name : "Unknown",
+                    "email", email != null ? email : "unknown@example.com",
+                    "phoneNumber", phone != null ? phone : "Unknown"
+            );
+        }
+        return null;
+    }
+    
     /**
      * Extract JSON from a response that might contain additional text.
      * 
@@ -336,7 +411,7 @@ public class ResumeParserServiceImpl implements ResumeParserService {
      * @param pattern The regex pattern to use
      * @return The extracted information or null if not found
      */
-    private String extractPattern(String text, String pattern) {
+    private static String extractPattern(String text, String pattern) {
         java.util.regex.Pattern p = java.util.regex.Pattern.compile(pattern);
         java.util.regex.Matcher m = p.matcher(text);
         if (m.find()) {
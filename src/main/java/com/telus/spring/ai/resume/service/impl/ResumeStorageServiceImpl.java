@@ -8,22 +8,39 @@ import org.springframework.ai.vectorstore.VectorStore;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
-import org.springframework.scheduling.annotation.Async;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Caching;
+import org.springframework.cache.interceptor.SimpleKey;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
+import com.telus.spring.ai.resume.config.CacheConfig;
 import com.telus.spring.ai.resume.model.Resume;
+import com.telus.spring.ai.resume.model.ResumeChangeType;
+import com.telus.spring.ai.resume.model.ResumeContent;
 import com.telus.spring.ai.resume.model.ResumeParseResult;
+import com.telus.spring.ai.resume.model.ResumeSearchHit;
+import com.telus.spring.ai.resume.model.ResumeSummary;
 import com.telus.spring.ai.resume.model.SyncResult;
+import com.telus.spring.ai.resume.repository.ResumeContentRepository;
 import com.telus.spring.ai.resume.repository.ResumeRepository;
 import com.telus.spring.ai.resume.service.ResumeStorageService;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
 import java.io.IOException;
+import java.sql.Timestamp;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -31,7 +48,8 @@ import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
 import java.util.concurrent.atomic.AtomicInteger;
-import java.util.stream.Collectors;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
 
 /**
  * Implementation of ResumeStorageService that stores resumes in a database
@@ -43,22 +61,61 @@ public class ResumeStorageServiceImpl implements ResumeStorageService {
     
     private static final Logger logger = LoggerFactory.getLogger(ResumeStorageServiceImpl.class);
     
+    /**
+     * Maximum number of IDs sent in a single batched statement during synchronization.
+     */
+    private static final int SYNC_BATCH_SIZE = 500;
+    
+    /**
+     * Maximum number of resumes written by a single upsert statement during ingestion.
+     */
+    private static final int UPSERT_BATCH_SIZE = 1000;
+    
+    /**
+     * Maximum length of the error message stored with a failed outbox change.
+     */
+    private static final int MAX_ERROR_LENGTH = 1000;
+    
+    @Value("${resume.sync.parallelism:4}")
+    private int syncParallelism;
+    
+    @Value("${resume.outbox.max-attempts:5}")
+    private int outboxMaxAttempts;
+    
+    @Value("${resume.outbox.retry-backoff-ms:5000}")
+    private long outboxRetryBackoffMs;
+    
+    @Value("${resume.outbox.max-backoff-ms:600000}")
+    private long outboxMaxBackoffMs;
+    
+    @Value("${resume.outbox.claim-timeout-ms:600000}")
+    private long outboxClaimTimeoutMs;
+    
     private final ResumeRepository resumeRepository;
+    private final ResumeContentRepository resumeContentRepository;
     private final VectorStore vectorStore;
     private final EmbeddingModel embeddingModel;
     private final JdbcTemplate jdbcTemplate;
     
     @Autowired
-    @Qualifier("resumeProcessingExecutor")
-    private Executor resumeProcessingExecutor;
+    @Qualifier("backgroundExecutor")
+    private Executor backgroundExecutor;
+    
+    @Autowired
+    private MeterRegistry meterRegistry;
+    
+    @Autowired
+    private CacheManager cacheManager;
     
     public ResumeStorageServiceImpl(
             ResumeRepository resumeRepository,
+            ResumeContentRepository resumeContentRepository,
             @Qualifier("resumeVectorStore") VectorStore vectorStore,
            // VectorStore vectorStore,
             EmbeddingModel embeddingModel,
             JdbcTemplate jdbcTemplate) {
         this.resumeRepository = resumeRepository;
+        this.resumeContentRepository = resumeContentRepository;
         this.vectorStore = vectorStore;
         this.embeddingModel = embeddingModel;
         this.jdbcTemplate = jdbcTemplate;
@@ -70,32 +127,68 @@ public class ResumeStorageServiceImpl implements ResumeStorageService {
     }
     
     @Override
-    public Page<Resume> getAllResumes(Pageable pageable) {
-        return resumeRepository.findAll(pageable);
+    public Optional<Resume> getResumeWithContent(UUID id) {
+        return resumeRepository.findById(id)
+                .map(cached -> {
+                    // Copy so the text does not end up in the shared cached instance
+                    Resume resume = new Resume(cached);
+                    resumeContentRepository.findById(id)
+                            .ifPresent(content -> resume.setFullText(content.getFullText()));
+                    return resume;
+                });
+    }
+    
+    /**
+     * Load resumes together with their full text.
+     * 
+     * @param ids The IDs of the resumes to load
+     * @return The resumes with their full text populated
+     */
+    private List<Resume> findAllWithContent(List<UUID> ids) {
+        Map<UUID, String> texts = new HashMap<>();
+        for (ResumeContent content : resumeContentRepository.findAllById(ids)) {
+            texts.put(content.getResumeId(), content.getFullText());
+        }
+        
+        List<Resume> resumes = resumeRepository.findAllById(ids);
+        resumes.forEach(resume -> resume.setFullText(texts.get(resume.getId())));
+        return resumes;
     }
     
     @Override
+    public List<ResumeSummary> getResumeSummaries(LocalDateTime afterUploadedAt, UUID afterId, int limit) {
+        if (afterUploadedAt == null || afterId == null) {
+            return resumeRepository.findSummaries(Limit.of(limit));
+        }
+        return resumeRepository.findSummariesAfter(afterUploadedAt, afterId, limit);
+    }
+    
+    @Override
+    public List<ResumeSearchHit> searchResumes(String query, int limit) {
+        if (query == null || query.isBlank()) {
+            return List.of();
+        }
+        return resumeRepository.searchByKeywords(query.trim(), limit);
+    }
+    
+    @Override
+    @Transactional
+    @Caching(evict = {
+        @CacheEvict(cacheNames = CacheConfig.RESUMES_BY_ID, key = "#id"),
+        @CacheEvict(cacheNames = CacheConfig.RESUMES_BY_NATURAL_KEY, allEntries = true)
+    })
     public void deleteResume(UUID id) {
-        // First delete from database in its own transaction
+        // Delete from database and record the change in the same transaction;
+        // the outbox worker removes the vector store entry
         deleteResumeFromDatabase(id);
-        
-        // Then try to delete from vector store (outside the database transaction)
-        try {
-            vectorStore.delete(List.of(id.toString()));
-            logger.info("Deleted resume from vector store: {}", id);
-        } catch (Exception e) {
-            logger.error("Error deleting resume from vector store: {}", id, e);
-            // Continue execution - we don't want to fail the entire operation if vector store fails
-            // The resume is still deleted from the database
-        }
+        recordChange(id, ResumeChangeType.DELETE);
     }
     
     /**
-     * Delete a resume from the database in its own transaction.
+     * Delete a resume from the database.
      * 
      * @param id The ID of the resume to delete
      */
-    @Transactional
     private void deleteResumeFromDatabase(UUID id) {
         try {
             // Delete from database
@@ -108,234 +201,512 @@ public class ResumeStorageServiceImpl implements ResumeStorageService {
     }
     
     /**
-     * Save a resume to the vector store.
+     * Record a resume change in the resume_changes outbox.
+     * Must be called inside the transaction that modifies the resume so the
+     * change is only visible to the outbox worker once the resume is committed.
      * 
-     * @param resume The resume to save
+     * @param resumeId The ID of the changed resume
+     * @param changeType The type of change
      */
-    private void saveToVectorStore(Resume resume) {
-        try {
-            // Create a more comprehensive metadata map
-            Map<String, Object> metadata = new HashMap<>();
-            metadata.put("type", "resume");
-            metadata.put("resumeId", resume.getId().toString());
-            metadata.put("name", resume.getName());
-            metadata.put("email", resume.getEmail());
-            metadata.put("phoneNumber", resume.getPhoneNumber());
-            
-            // Add optional fields if available
-            if (resume.getFileType() != null) {
-                metadata.put("fileType", resume.getFileType());
+    private void recordChange(UUID resumeId, ResumeChangeType changeType) {
+        jdbcTemplate.update(
+            "INSERT INTO resume_changes (resume_id, change_type) VALUES (?, ?)",
+            resumeId,
+            changeType.name()
+        );
+    }
+    
+    @Override
+    public int processPendingChanges(int batchSize) {
+        // Claim a batch in one short statement; SKIP LOCKED lets concurrent workers claim different rows,
+        // and no lock is held while the resumes are embedded. A claim left by a crashed worker expires.
+        List<ClaimedChange> claimed = jdbcTemplate.query(
+            "UPDATE resume_changes SET claimed_until = now() + ? * interval '1 millisecond' " +
+            "WHERE id IN (SELECT id FROM resume_changes " +
+            "WHERE parked_at IS NULL AND next_attempt_at <= now() " +
+            "AND (claimed_until IS NULL OR claimed_until < now()) " +
+            "ORDER BY id LIMIT ? FOR UPDATE SKIP LOCKED) " +
+            "RETURNING id, resume_id, change_type",
+            (rs, rowNum) -> new ClaimedChange(
+                    rs.getLong("id"),
+                    rs.getObject("resume_id", UUID.class),
+                    ResumeChangeType.valueOf(rs.getString("change_type"))),
+            outboxClaimTimeoutMs,
+            batchSize
+        );
+        
+        if (claimed.isEmpty()) {
+            return 0;
+        }
+        
+        // Collapse multiple changes for the same resume - the latest one wins
+        Map<UUID, List<ClaimedChange>> changesByResume = new LinkedHashMap<>();
+        claimed.stream()
+                .sorted(Comparator.comparingLong(ClaimedChange::id))
+                .forEach(change -> changesByResume.computeIfAbsent(change.resumeId(), id -> new ArrayList<>()).add(change));
+        
+        List<UUID> upsertIds = new ArrayList<>();
+        List<UUID> deleteIds = new ArrayList<>();
+        changesByResume.forEach((resumeId, changes) -> {
+            if (changes.get(changes.size() - 1).changeType() == ResumeChangeType.DELETE) {
+                deleteIds.add(resumeId);
+            } else {
+                upsertIds.add(resumeId);
             }
-            
-            if (resume.getOriginalFileName() != null) {
-                metadata.put("originalFileName", resume.getOriginalFileName());
+        });
+        
+        // Apply the changes outside any transaction; a failure only affects the resumes it belongs to
+        Map<UUID, Exception> failures = new HashMap<>();
+        applyChanges(deleteIds, failures,
+                ids -> vectorStore.delete(ids.stream().map(UUID::toString).toList()));
+        applyChanges(upsertIds, failures,
+                ids -> vectorStore.add(findAllWithContent(ids).stream().map(this::toDocument).toList()));
+        
+        List<UUID> applied = new ArrayList<>();
+        List<Long> appliedUpTo = new ArrayList<>();
+        int parked = 0;
+        for (Map.Entry<UUID, List<ClaimedChange>> entry : changesByResume.entrySet()) {
+            List<ClaimedChange> changes = entry.getValue();
+            Exception failure = failures.get(entry.getKey());
+            if (failure == null) {
+                applied.add(entry.getKey());
+                appliedUpTo.add(changes.get(changes.size() - 1).id());
+            } else if (recordFailure(entry.getKey(), changes, failure)) {
+                parked++;
             }
-            
-            if (resume.getUploadedAt() != null) {
-                metadata.put("uploadedAt", resume.getUploadedAt().toString());
+        }
+        
+        // The vector store now reflects the current resume, so every change recorded up to the
+        // applied one is done - including older rows that were waiting for a retry or parked
+        if (!applied.isEmpty()) {
+            jdbcTemplate.update(
+                "DELETE FROM resume_changes c USING unnest(?::uuid[], ?::bigint[]) AS d(resume_id, max_id) " +
+                "WHERE c.resume_id = d.resume_id AND c.id <= d.max_id",
+                ps -> {
+                    ps.setArray(1, ps.getConnection().createArrayOf("uuid", applied.toArray()));
+                    ps.setArray(2, ps.getConnection().createArrayOf("bigint", appliedUpTo.toArray()));
+                }
+            );
+        }
+        
+        meterRegistry.counter("resume.outbox.resumes", "outcome", "applied").increment(applied.size());
+        meterRegistry.counter("resume.outbox.resumes", "outcome", "retried").increment(failures.size() - parked);
+        meterRegistry.counter("resume.outbox.resumes", "outcome", "parked").increment(parked);
+        logger.info("Applied {} resume changes ({} resumes, {} upserts) to vector store; {} resumes failed, {} parked",
+                claimed.size(), changesByResume.size(), upsertIds.size(), failures.size(), parked);
+        
+        return claimed.size();
+    }
+    
+    /**
+     * A change claimed from the resume_changes outbox.
+     */
+    private record ClaimedChange(long id, UUID resumeId, ResumeChangeType changeType) {
+    }
+    
+    /**
+     * Apply changes for a set of resumes as one batch. If the batch fails, each resume is
+     * retried on its own so that one bad resume does not hold back the others.
+     * 
+     * @param resumeIds The resumes to apply
+     * @param failures Receives the failure of each resume that could not be applied
+     * @param action Applies the changes of the given resumes to the vector store
+     */
+    private void applyChanges(List<UUID> resumeIds, Map<UUID, Exception> failures, Consumer<List<UUID>> action) {
+        if (resumeIds.isEmpty()) {
+            return;
+        }
+        try {
+            action.accept(resumeIds);
+            return;
+        } catch (Exception e) {
+            if (resumeIds.size() == 1) {
+                failures.put(resumeIds.get(0), e);
+                return;
             }
-            
-            if (resume.getUpdatedAt() != null) {
-                metadata.put("updatedAt", resume.getUpdatedAt().toString());
+            logger.warn("Applying {} resume changes as a batch failed, retrying one resume at a time", resumeIds.size(), e);
+        }
+        
+        for (UUID resumeId : resumeIds) {
+            try {
+                action.accept(List.of(resumeId));
+            } catch (Exception e) {
+                failures.put(resumeId, e);
             }
-            
-            Document document = new Document(resume.getFullText(), metadata);
-            
-            vectorStore.add(List.of(document));
-            
-            logger.info("Saved resume to vector store: {}", resume.getId());
-        } catch (Exception e) {
-            logger.error("Error saving resume to vector store: {}", resume.getId(), e);
-            // Continue execution - we don't want to fail the entire operation if vector store fails
         }
     }
     
+    /**
+     * Release the claimed changes of a resume that could not be applied. They are retried
+     * with exponential backoff and parked once they have failed resume.outbox.max-attempts times.
+     * 
+     * @param resumeId The resume whose changes failed
+     * @param changes The claimed changes of the resume
+     * @param failure The cause of the failure
+     * @return True if the changes were parked
+     */
+    private boolean recordFailure(UUID resumeId, List<ClaimedChange> changes, Exception failure) {
+        Long[] ids = changes.stream().map(ClaimedChange::id).toArray(Long[]::new);
+        String error = String.valueOf(failure);
+        if (error.length() > MAX_ERROR_LENGTH) {
+            error = error.substring(0, MAX_ERROR_LENGTH);
+        }
+        String lastError = error;
+        
+        List<Boolean> parked = jdbcTemplate.query(
+            "UPDATE resume_changes SET attempts = attempts + 1, last_error = ?, claimed_until = NULL, " +
+            "next_attempt_at = now() + least(?, ? * power(2, attempts)) * interval '1 millisecond', " +
+            "parked_at = CASE WHEN attempts + 1 >= ? THEN now() END " +
+            "WHERE id = ANY(?) RETURNING parked_at IS NOT NULL AS parked",
+            ps -> {
+                ps.setString(1, lastError);
+                ps.setLong(2, outboxMaxBackoffMs);
+                ps.setLong(3, outboxRetryBackoffMs);
+                ps.setInt(4, outboxMaxAttempts);
+                ps.setArray(5, ps.getConnection().createArrayOf("bigint", ids));
+            },
+            (rs, rowNum) -> rs.getBoolean("parked")
+        );
+        
+        if (parked.contains(Boolean.TRUE)) {
+            logger.error("Parked changes of resume {} after {} failed attempts; they are kept in resume_changes "
+                    + "and will not be retried", resumeId, outboxMaxAttempts, failure);
+            return true;
+        }
+        logger.warn("Failed to apply changes of resume {}, will retry: {}", resumeId, lastError);
+        return false;
+    }
+    
+    /**
+     * Build the vector store document for a resume.
+     * 
+     * @param resume The resume to convert
+     * @return The document with the resume text and metadata
+     */
+    private Document toDocument(Resume resume) {
+        // Keep the metadata compact - it is stored with every vector row and returned with every hit
+        Map<String, Object> metadata = new HashMap<>();
+        metadata.put("type", "resume");
+        metadata.put("resumeId", resume.getId().toString());
+        metadata.put("name", resume.getName());
+        metadata.put("email", resume.getEmail());
+        metadata.put("phoneNumber", resume.getPhoneNumber());
+        
+        // Add optional fields if available
+        if (resume.getFileType() != null) {
+            metadata.put("fileType", resume.getFileType());
+        }
+        
+        if (resume.getOriginalFileName() != null) {
+            metadata.put("originalFileName", resume.getOriginalFileName());
+        }
+        
+        return new Document(resume.getFullText(), metadata);
+    }
+    
     @Override
     public SyncResult synchronizeVectorStore() {
+        return synchronizeVectorStore((done, total) -> { });
+    }
+    
+    @Override
+    public SyncResult synchronizeVectorStore(BiConsumer<Integer, Integer> progress) {
         logger.info("Starting vector store synchronization");
         
-        AtomicInteger duplicatesRemoved = new AtomicInteger(0);
-        AtomicInteger missingAdded = new AtomicInteger(0);
-        AtomicInteger orphansRemoved = new AtomicInteger(0);
+        int missingAdded = 0;
+        int orphansRemoved = 0;
         
         try {
-            // Step 1: Get all resume IDs from the database (our source of truth)
-            List<UUID> dbResumeIds = resumeRepository.findAllIds();
-            logger.info("Found {} resumes in database", dbResumeIds.size());
+            // Step 1: Remove orphaned entries - vector rows whose resume no longer exists (anti-join)
+            orphansRemoved = syncPhaseTimer("remove_orphans").record(() -> {
+                List<UUID> orphanIds = jdbcTemplate.queryForList(
+                    "SELECT v.id FROM resume_vector_store v " +
+                    "WHERE NOT EXISTS (SELECT 1 FROM resumes r WHERE r.id = v.resume_id)",
+                    UUID.class
+                );
+                return deleteVectorEntriesByIds(orphanIds);
+            });
+            meterRegistry.counter("resume.sync.entries", "change", "removed").increment(orphansRemoved);
+            logger.info("Removed {} orphaned vector entries", orphansRemoved);
             
-            // Step 2: Process resumes in parallel
-            List<CompletableFuture<Void>> futures = dbResumeIds.stream()
-                    .map(resumeId -> processResumeAsync(resumeId, duplicatesRemoved, missingAdded))
-                    .collect(Collectors.toList());
+            // Duplicates cannot occur: the vector store upserts on the unique resume_id
             
-            // Wait for all futures to complete
-            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
-            
-            // Step 3: Find orphaned entries (can be done after all resumes are processed)
-            orphansRemoved.set(removeOrphanedEntries(dbResumeIds));
+            // Step 2: Find resumes with no vector entry (anti-join) and embed only those
+            List<UUID> missingIds = syncPhaseTimer("find_missing").record(() -> jdbcTemplate.queryForList(
+                "SELECT r.id FROM resumes r " +
+                "WHERE NOT EXISTS (SELECT 1 FROM resume_vector_store v WHERE v.resume_id = r.id)",
+                UUID.class
+            ));
+            logger.info("Found {} resumes missing from vector store", missingIds.size());
+            missingAdded = syncPhaseTimer("add_missing").record(() -> addMissingEntries(missingIds, progress));
+            meterRegistry.counter("resume.sync.entries", "change", "added").increment(missingAdded);
             
         } catch (Exception e) {
             logger.error("Error during vector store synchronization", e);
         }
         
-        logger.info("Vector store synchronization completed: {} duplicates removed, {} missing added, {} orphans removed",
-                duplicatesRemoved.get(), missingAdded.get(), orphansRemoved.get());
+        logger.info("Vector store synchronization completed: {} missing added, {} orphans removed",
+                missingAdded, orphansRemoved);
         
-        return new SyncResult(duplicatesRemoved.get(), missingAdded.get(), orphansRemoved.get());
+        return new SyncResult(0, missingAdded, orphansRemoved);
+    }
+    
+    private Timer syncPhaseTimer(String phase) {
+        return Timer.builder("resume.sync.phase")
+                .description("Duration of each vector store synchronization phase")
+                .tag("phase", phase)
+                .register(meterRegistry);
     }
     
     /**
-     * Process a resume asynchronously during synchronization.
+     * Add vector entries for resumes that are missing from the vector store.
+     * Batches are embedded on the background executor, at most syncParallelism at a
+     * time, so only that many batches of full texts are held in memory at once. A batch
+     * that fails is retried one resume at a time, like outbox changes; resumes that still
+     * fail are left for the next sync.
      * 
-     * @param resumeId The ID of the resume to process
-     * @param duplicatesRemoved Counter for duplicates removed
-     * @param missingAdded Counter for missing entries added
-     * @return A CompletableFuture that will complete when the processing is done
+     * @param missingIds The IDs of the resumes to add
+     * @param progress Receives the number of resumes processed so far and the total
+     * @return Number of entries added
      */
-    @Async("resumeProcessingExecutor")
-    public CompletableFuture<Void> processResumeAsync(UUID resumeId, AtomicInteger duplicatesRemoved, AtomicInteger missingAdded) {
-        try {
-            // Find all entries in vector store for this resume ID
-            List<String> vectorEntries = findVectorEntriesByResumeId(resumeId.toString());
-            
-            if (vectorEntries.isEmpty()) {
-                // Case: Missing in vector store - add it
-                resumeRepository.findById(resumeId).ifPresent(resume -> {
-                    saveToVectorStore(resume);
-                    logger.info("Added missing vector entry for resume: {}", resumeId);
-                    missingAdded.incrementAndGet();
-                });
-            } else if (vectorEntries.size() > 1) {
-                // Case: Duplicates in vector store - keep only the first one
-                // Delete all except the first entry
-                for (int i = 1; i < vectorEntries.size(); i++) {
-                    // Delete the duplicate entry directly from the database
-                    jdbcTemplate.update(
-                        "DELETE FROM resume_vector_store WHERE id = ?::uuid",
-                        UUID.fromString(vectorEntries.get(i))
-                    );
-                    logger.info("Removed duplicate vector entry for resume: {}", resumeId);
-                    duplicatesRemoved.incrementAndGet();
-                }
-            }
-            // Case: Exactly one entry - this is correct, do nothing
-        } catch (Exception e) {
-            logger.error("Error processing resume ID: {}", resumeId, e);
+    private int addMissingEntries(List<UUID> missingIds, BiConsumer<Integer, Integer> progress) {
+        List<List<UUID>> batches = new ArrayList<>();
+        for (int i = 0; i < missingIds.size(); i += SYNC_BATCH_SIZE) {
+            batches.add(missingIds.subList(i, Math.min(i + SYNC_BATCH_SIZE, missingIds.size())));
         }
         
-        return CompletableFuture.completedFuture(null);
+        AtomicInteger processed = new AtomicInteger();
+        List<CompletableFuture<Integer>> futures = BoundedParallel.start(batches, syncParallelism,
+                batch -> CompletableFuture.supplyAsync(() -> {
+                    AtomicInteger added = new AtomicInteger();
+                    Map<UUID, Exception> failures = new HashMap<>();
+                    applyChanges(batch, failures, ids -> {
+                        List<Document> documents = findAllWithContent(ids).stream()
+                                .map(this::toDocument)
+                                .toList();
+                        vectorStore.add(documents);
+                        added.addAndGet(documents.size());
+                    });
+                    failures.forEach((resumeId, e) ->
+                            logger.error("Error adding vector entry for resume {}, leaving it for the next sync", resumeId, e));
+                    
+                    int done = processed.addAndGet(batch.size());
+                    logger.info("Vector store sync progress: {}/{} missing resumes processed", done, missingIds.size());
+                    progress.accept(done, missingIds.size());
+                    return added.get();
+                }, backgroundExecutor));
+        
+        return futures.stream()
+                .mapToInt(CompletableFuture::join)
+                .sum();
     }
     
     /**
-     * Remove orphaned entries from the vector store.
+     * Delete vector store entries by their row IDs using batched {@code id = ANY(?)} statements.
      * 
-     * @param dbResumeIds List of valid resume IDs from the database
-     * @return Number of orphaned entries removed
+     * @param ids The vector store row IDs to delete
+     * @return Number of entries deleted
      */
-    private int removeOrphanedEntries(List<UUID> dbResumeIds) {
-        AtomicInteger orphansRemoved = new AtomicInteger(0);
+    private int deleteVectorEntriesByIds(List<UUID> ids) {
+        int deleted = 0;
         
-        List<String> allVectorResumeIds = getAllVectorResumeIds();
-        for (String vectorResumeId : allVectorResumeIds) {
-            try {
-                UUID resumeId = UUID.fromString(vectorResumeId);
-                if (!dbResumeIds.contains(resumeId)) {
-                    // This is an orphaned entry - delete it
-                    jdbcTemplate.update(
-                        "DELETE FROM resume_vector_store WHERE resume_id = ?::uuid",
-                        resumeId
-                    );
-                    logger.info("Removed orphaned vector entry: {}", vectorResumeId);
-                    orphansRemoved.incrementAndGet();
-                }
-            } catch (IllegalArgumentException e) {
-                // Not a valid UUID, could be another type of document
-                logger.warn("Found non-UUID resume ID in vector store: {}", vectorResumeId);
-            }
+        for (int i = 0; i < ids.size(); i += SYNC_BATCH_SIZE) {
+            List<UUID> batch = ids.subList(i, Math.min(i + SYNC_BATCH_SIZE, ids.size()));
+            deleted += jdbcTemplate.update(
+                "DELETE FROM resume_vector_store WHERE id = ANY(?)",
+                ps -> ps.setArray(1, ps.getConnection().createArrayOf("uuid", batch.toArray()))
+            );
+        }
+        
+        return deleted;
+    }
+
+    @Override
+    @Transactional
+    @Caching(evict = {
+        @CacheEvict(cacheNames = CacheConfig.RESUMES_BY_ID, key = "#result.id"),
+        @CacheEvict(cacheNames = CacheConfig.RESUMES_BY_NATURAL_KEY,
+                key = "new org.springframework.cache.interceptor.SimpleKey(#parseResult.name, #parseResult.email, #parseResult.phoneNumber)")
+    })
+    public Resume storeResume(ResumeParseResult parseResult, MultipartFile file) throws IOException {
+        // Same set-based upsert as bulk ingestion, with a single row
+        return upsertResumes(List.of(parseResult), List.of(file)).get(0);
+    }
+    
+    @Override
+    @Transactional
+    public List<Resume> storeResumes(List<ResumeParseResult> parseResults, List<MultipartFile> files) {
+        if (parseResults.size() != files.size()) {
+            throw new IllegalArgumentException("Expected one file per parse result, got "
+                    + parseResults.size() + " parse results and " + files.size() + " files");
         }
+        List<Resume> stored = upsertResumes(parseResults, files);
         
-        return orphansRemoved.get();
+        // Evict only the stored resumes, whose IDs are known once the upsert returns; the
+        // transaction-aware cache manager defers the evictions until the commit
+        Cache byId = cacheManager.getCache(CacheConfig.RESUMES_BY_ID);
+        Cache byNaturalKey = cacheManager.getCache(CacheConfig.RESUMES_BY_NATURAL_KEY);
+        for (Resume resume : stored) {
+            byId.evict(resume.getId());
+            byNaturalKey.evict(new SimpleKey(resume.getName(), resume.getEmail(), resume.getPhoneNumber()));
+        }
+        return stored;
     }
     
     /**
-     * Find all vector store entries for a specific resume ID.
+     * Insert or update resumes, their text and their outbox entries with set-based statements.
+     * Rows are sent as arrays and expanded with unnest(), so each chunk costs three statements
+     * regardless of its size. Existing resumes are matched on the unique (name, email, phone_number)
+     * constraint by the database, which also makes concurrent uploads of the same person safe.
      * 
-     * @param resumeId The resume ID to search for
-     * @return A list of vector store entry IDs
+     * @param parseResults The parsed resume data
+     * @param files The uploaded files, one per parse result
+     * @return The stored resumes, in the same order as the parse results
      */
-    private List<String> findVectorEntriesByResumeId(String resumeId) {
-        // Direct SQL query to find entries with the specified resume ID
-        return jdbcTemplate.queryForList(
-            "SELECT id::text FROM resume_vector_store WHERE resume_id = ?::uuid",
-            String.class,
-            resumeId
-        );
+    private List<Resume> upsertResumes(List<ResumeParseResult> parseResults, List<MultipartFile> files) {
+        // Collapse repeated people - ON CONFLICT cannot touch the same row twice in one statement
+        Map<NaturalKey, Integer> lastIndexByKey = new LinkedHashMap<>();
+        for (int i = 0; i < parseResults.size(); i++) {
+            lastIndexByKey.put(naturalKey(parseResults.get(i)), i);
+        }
+        List<Integer> uniqueIndexes = new ArrayList<>(lastIndexByKey.values());
+        
+        Map<NaturalKey, Resume> storedByKey = new HashMap<>();
+        for (int start = 0; start < uniqueIndexes.size(); start += UPSERT_BATCH_SIZE) {
+            List<Integer> chunk = uniqueIndexes.subList(start, Math.min(start + UPSERT_BATCH_SIZE, uniqueIndexes.size()));
+            storedByKey.putAll(upsertChunk(chunk, parseResults, files));
+        }
+        
+        logger.info("Stored {} resumes ({} distinct)", parseResults.size(), storedByKey.size());
+        
+        return parseResults.stream()
+                .map(parseResult -> storedByKey.get(naturalKey(parseResult)))
+                .toList();
     }
     
     /**
-     * Get all resume IDs from the vector store.
+     * Upsert one chunk of distinct resumes.
      * 
-     * @return A list of all resume IDs in the vector store
+     * @param chunk Indexes of the parse results to store
+     * @param parseResults The parsed resume data
+     * @param files The uploaded files
+     * @return The stored resumes keyed by natural key
      */
-    private List<String> getAllVectorResumeIds() {
-        // Direct SQL query to get all resume IDs
-        return jdbcTemplate.queryForList(
-            "SELECT resume_id::text FROM resume_vector_store",
-            String.class
+    private Map<NaturalKey, Resume> upsertChunk(List<Integer> chunk, List<ResumeParseResult> parseResults,
+                                                List<MultipartFile> files) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        int size = chunk.size();
+        
+        UUID[] ids = new UUID[size];
+        String[] names = new String[size];
+        String[] emails = new String[size];
+        String[] phoneNumbers = new String[size];
+        String[] fileTypes = new String[size];
+        String[] fileNames = new String[size];
+        Map<NaturalKey, ResumeParseResult> byKey = new HashMap<>();
+        Map<NaturalKey, String> fileNameByKey = new HashMap<>();
+        
+        for (int j = 0; j < size; j++) {
+            ResumeParseResult parseResult = parseResults.get(chunk.get(j));
+            String fileName = files.get(chunk.get(j)).getOriginalFilename();
+            ids[j] = UUID.randomUUID();
+            names[j] = parseResult.getName();
+            emails[j] = parseResult.getEmail();
+            phoneNumbers[j] = parseResult.getPhoneNumber();
+            fileTypes[j] = parseResult.getFileType();
+            fileNames[j] = fileName;
+            byKey.put(naturalKey(parseResult), parseResult);
+            fileNameByKey.put(naturalKey(parseResult), fileName);
+        }
+        
+        // Step 1: Upsert the resume rows; RETURNING yields the existing ID for updated rows
+        Map<NaturalKey, Resume> stored = new HashMap<>();
+        jdbcTemplate.query(
+            "INSERT INTO resumes (id, name, email, phone_number, uploaded_at, updated_at, file_type, original_file_name) " +
+            "SELECT u.id, u.name, u.email, u.phone_number, ?, ?, u.file_type, u.original_file_name " +
+            "FROM unnest(?::uuid[], ?::varchar[], ?::varchar[], ?::varchar[], ?::varchar[], ?::varchar[]) " +
+            "AS u(id, name, email, phone_number, file_type, original_file_name) " +
+            "ON CONFLICT ON CONSTRAINT unique_resume DO UPDATE SET " +
+            "updated_at = EXCLUDED.updated_at, file_type = EXCLUDED.file_type, " +
+            "original_file_name = EXCLUDED.original_file_name " +
+            "RETURNING id, name, email, phone_number, uploaded_at, updated_at",
+            ps -> {
+                ps.setTimestamp(1, now);
+                ps.setTimestamp(2, now);
+                ps.setArray(3, ps.getConnection().createArrayOf("uuid", ids));
+                ps.setArray(4, ps.getConnection().createArrayOf("varchar", names));
+                ps.setArray(5, ps.getConnection().createArrayOf("varchar", emails));
+                ps.setArray(6, ps.getConnection().createArrayOf("varchar", phoneNumbers));
+                ps.setArray(7, ps.getConnection().createArrayOf("varchar", fileTypes));
+                ps.setArray(8, ps.getConnection().createArrayOf("varchar", fileNames));
+            },
+            rs -> {
+                NaturalKey key = new NaturalKey(rs.getString("name"), rs.getString("email"), rs.getString("phone_number"));
+                ResumeParseResult parseResult = byKey.get(key);
+                
+                Resume resume = new Resume(
+                        parseResult.getName(),
+                        parseResult.getEmail(),
+                        parseResult.getPhoneNumber(),
+                        parseResult.getFullText(),
+                        parseResult.getFileType(),
+                        fileNameByKey.get(key)
+                );
+                resume.setId(rs.getObject("id", UUID.class));
+                resume.setUploadedAt(rs.getTimestamp("uploaded_at").toLocalDateTime());
+                resume.setUpdatedAt(rs.getTimestamp("updated_at").toLocalDateTime());
+                stored.put(key, resume);
+            }
         );
-    }
-
-    @Override
-    public Resume storeResume(ResumeParseResult parseResult, MultipartFile file) throws IOException {
-        // First save to database in its own transaction
-        Resume savedResume = saveResumeToDatabase(parseResult, file);
         
-        // Then try to save to vector store (outside the database transaction)
+        UUID[] storedIds = stored.values().stream().map(Resume::getId).toArray(UUID[]::new);
+        String[] texts = stored.values().stream().map(Resume::getFullText).toArray(String[]::new);
         
+        // Step 2: Upsert the text
+        jdbcTemplate.update(
+            "INSERT INTO resume_content (resume_id, full_text) " +
+            "SELECT * FROM unnest(?::uuid[], ?::text[]) " +
+            "ON CONFLICT (resume_id) DO UPDATE SET full_text = EXCLUDED.full_text",
+            ps -> {
+                ps.setArray(1, ps.getConnection().createArrayOf("uuid", storedIds));
+                ps.setArray(2, ps.getConnection().createArrayOf("text", texts));
+            }
+        );
         
-        return savedResume;
+        // Step 3: Record the changes in the outbox, in the same transaction
+        jdbcTemplate.update(
+            "INSERT INTO resume_changes (resume_id, change_type) SELECT unnest(?::uuid[]), ?",
+            ps -> {
+                ps.setArray(1, ps.getConnection().createArrayOf("uuid", storedIds));
+                ps.setString(2, ResumeChangeType.UPSERT.name());
+            }
+        );
+        
+        return stored;
+    }
+    
+    /**
+     * Build the natural key of a parsed resume, matching the unique_resume constraint.
+     */
+    private NaturalKey naturalKey(ResumeParseResult parseResult) {
+        return new NaturalKey(parseResult.getName(), parseResult.getEmail(), parseResult.getPhoneNumber());
     }
+    
     /**
-     * Save a resume to the database in its own transaction.
+     * The (name, email, phone number) natural key of a resume.
+     */
+    private record NaturalKey(String name, String email, String phoneNumber) {
+    }
+    
+    /**
+     * Save the full text of a resume to the resume_content table.
      * 
-     * @param parseResult The parsed resume data
-     * @param file The uploaded file
-     * @return The saved resume
-     * @throws IOException If there is an error reading the file
+     * @param resume The saved resume
+     * @param fullText The full text of the resume
      */
-    @Transactional
-    private Resume saveResumeToDatabase(ResumeParseResult parseResult, MultipartFile file) throws IOException {
-        // Check if resume already exists
-        Optional<Resume> existingResume = findByNameEmailPhone(
-                parseResult.getName(),
-                parseResult.getEmail(),
-                parseResult.getPhoneNumber()
-        );
-        
-        if (existingResume.isPresent()) {
-            // Update existing resume
-            Resume resume = existingResume.get();
-            resume.setFullText(parseResult.getFullText());
-            resume.setFileType(parseResult.getFileType());
-            resume.setOriginalFileName(file.getOriginalFilename());
-            resume.setUpdatedAt(LocalDateTime.now());
-            
-            // Save to database
-            return resumeRepository.save(resume);
-        } else {
-            // Create new resume
-            Resume resume = new Resume(
-                    parseResult.getName(),
-                    parseResult.getEmail(),
-                    parseResult.getPhoneNumber(),
-                    parseResult.getFullText(),
-                    parseResult.getFileType(),
-                    file.getOriginalFilename()
-            );
-            
-            // Save to database
-            return resumeRepository.save(resume);
-        }
+    private void saveContent(Resume resume, String fullText) {
+        resumeContentRepository.save(new ResumeContent(resume.getId(), fullText));
+        resume.setFullText(fullText);
     }
 
 	 @Override
@@ -344,33 +715,38 @@ public class ResumeStorageServiceImpl implements ResumeStorageService {
 	    }
 
 	 @Override
+	    @Transactional
+	    @Caching(evict = {
+	        @CacheEvict(cacheNames = CacheConfig.RESUMES_BY_ID, key = "#id"),
+	        @CacheEvict(cacheNames = CacheConfig.RESUMES_BY_NATURAL_KEY, allEntries = true)
+	    })
 	    public Resume updateResume(UUID id, ResumeParseResult parseResult) {
-	        // First update in database in its own transaction
+	        // Update in database and record the change in the same transaction
 	        Resume savedResume = updateResumeInDatabase(id, parseResult);
-	        
-	       
+	        recordChange(savedResume.getId(), ResumeChangeType.UPSERT);
 	        
 	        return savedResume;
 	    }
 	 /**
-	     * Update a resume in the database in its own transaction.
+	     * Update a resume in the database.
 	     * 
 	     * @param id The ID of the resume to update
 	     * @param parseResult The parsed resume data
 	     * @return The updated resume
 	     */
-	    @Transactional
 	    private Resume updateResumeInDatabase(UUID id, ResumeParseResult parseResult) {
 	        Resume resume = resumeRepository.findById(id)
+	                .map(Resume::new) // copy - the lookup may have come from the cache
 	                .orElseThrow(() -> new IllegalArgumentException("Resume not found with ID: " + id));
 	        
 	        resume.setName(parseResult.getName());
 	        resume.setEmail(parseResult.getEmail());
 	        resume.setPhoneNumber(parseResult.getPhoneNumber());
-	        resume.setFullText(parseResult.getFullText());
 	        resume.setUpdatedAt(LocalDateTime.now());
 	        
 	        // Save to database
-	        return resumeRepository.save(resume);
+	        Resume savedResume = resumeRepository.save(resume);
+	        saveContent(savedResume, parseResult.getFullText());
+	        return savedResume;
 	    }
 }
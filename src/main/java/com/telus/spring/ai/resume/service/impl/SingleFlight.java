@@ -0,0 +1,113 @@
+package com.telus.spring.ai.resume.service.impl;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+/**
+ * Shares one asynchronous computation between concurrent requests for the same key.
+ * Entries only live while the computation runs, so results are never stale.
+ *
+ * <p>Every caller gets its own future. Cancelling it detaches that caller only; the
+ * computation is cancelled once all of its callers have cancelled.
+ */
+final class SingleFlight<K, V> {
+
+    private final ConcurrentMap<K, Flight<V>> flights = new ConcurrentHashMap<>();
+    private final UnaryOperator<V> copy;
+
+    /**
+     * @param copy Copies the shared result for each caller, so callers can modify their own result
+     */
+    SingleFlight(UnaryOperator<V> copy) {
+        this.copy = copy;
+    }
+
+    SingleFlight() {
+        this(UnaryOperator.identity());
+    }
+
+    /**
+     * Join the computation running for the key, or start one.
+     *
+     * @param key The key identifying the computation
+     * @param computation Starts the computation; called only if none is running for the key
+     * @return A future completing with the computation's result
+     * @throws RuntimeException If starting the computation throws
+     */
+    CompletableFuture<V> join(K key, Supplier<CompletableFuture<V>> computation) {
+        while (true) {
+            Flight<V> flight = new Flight<>();
+            Flight<V> existing = flights.putIfAbsent(key, flight);
+            if (existing != null) {
+                if (existing.tryJoin()) {
+                    return subscribe(key, existing);
+                }
+                // Every caller of the existing computation has cancelled it
+                flights.remove(key, existing);
+                continue;
+            }
+
+            try {
+                flight.computation = computation.get();
+            } catch (RuntimeException e) {
+                flights.remove(key, flight);
+                // Callers that joined while the computation was starting must not wait forever
+                flight.shared.completeExceptionally(e);
+                throw e;
+            }
+            // Callers that cancelled while the computation was starting found nothing to cancel
+            if (flight.callers.get() == 0) {
+                flight.computation.cancel(true);
+            }
+            flight.computation.whenComplete((value, ex) -> {
+                flights.remove(key, flight);
+                if (ex != null) {
+                    flight.shared.completeExceptionally(ex instanceof CompletionException && ex.getCause() != null
+                            ? ex.getCause() : ex);
+                } else {
+                    flight.shared.complete(value);
+                }
+            });
+            return subscribe(key, flight);
+        }
+    }
+
+    private CompletableFuture<V> subscribe(K key, Flight<V> flight) {
+        CompletableFuture<V> caller = new CompletableFuture<>();
+        flight.shared.whenComplete((value, ex) -> {
+            if (ex != null) {
+                caller.completeExceptionally(ex);
+            } else {
+                caller.complete(copy.apply(value));
+            }
+        });
+        caller.whenComplete((value, ex) -> {
+            if (caller.isCancelled() && flight.callers.decrementAndGet() == 0) {
+                flights.remove(key, flight);
+                CompletableFuture<V> running = flight.computation;
+                if (running != null) {
+                    running.cancel(true);
+                }
+            }
+        });
+        return caller;
+    }
+
+    private static final class Flight<V> {
+        final CompletableFuture<V> shared = new CompletableFuture<>();
+        final AtomicInteger callers = new AtomicInteger(1);
+        volatile CompletableFuture<V> computation;
+
+        /**
+         * Add a caller unless every caller has already cancelled.
+         */
+        boolean tryJoin() {
+            return callers.getAndUpdate(n -> n == 0 ? 0 : n + 1) > 0;
+        }
+    }
+}
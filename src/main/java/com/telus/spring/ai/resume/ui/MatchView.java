@@ -4,6 +4,7 @@ import com.telus.spring.ai.resume.model.Resume;
 import com.telus.spring.ai.resume.model.ResumeMatch;
 import com.telus.spring.ai.resume.service.ResumeMatchingService;
 import com.telus.spring.ai.resume.service.ResumeStorageService;
+import com.vaadin.flow.component.UI;
 import com.vaadin.flow.component.button.Button;
 import com.vaadin.flow.component.button.ButtonVariant;
 import com.vaadin.flow.component.grid.Grid;
@@ -29,6 +30,7 @@ import com.vaadin.flow.theme.lumo.LumoUtility;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * The match view allows users to match resumes with job descriptions.
@@ -37,6 +39,8 @@ import java.util.UUID;
 @PageTitle("Resume AI - Match Resumes")
 public class MatchView extends VerticalLayout {
 
+    private static final int POLL_INTERVAL = 500; // milliseconds
+
     private final ResumeMatchingService resumeMatchingService;
     private final ResumeStorageService resumeStorageService;
     
@@ -45,6 +49,7 @@ public class MatchView extends VerticalLayout {
     private ProgressBar progressBar;
     private VerticalLayout resultsLayout;
     private Grid<ResumeMatch> resultsGrid;
+    private CompletableFuture<List<ResumeMatch>> pendingMatch;
 
     public MatchView(ResumeMatchingService resumeMatchingService, ResumeStorageService resumeStorageService) {
         this.resumeMatchingService = resumeMatchingService;
@@ -57,6 +62,9 @@ public class MatchView extends VerticalLayout {
         add(createHeaderSection());
         add(createInputSection());
         add(createResultsSection());
+        
+        // Nobody will see the results once the user navigates away
+        addDetachListener(event -> cancelPendingMatch());
     }
 
     private VerticalLayout createHeaderSection() {
@@ -244,7 +252,7 @@ public class MatchView extends VerticalLayout {
         scoreBadge.add(scoreIcon, scoreValue);
         
         // Score label
-        Span scoreLabel = new Span("Match Score");
+        Span scoreLabel = new Span(match.isEstimated() ? "Estimated Score" : "Match Score");
         scoreLabel.addClassNames(LumoUtility.TextColor.SECONDARY, LumoUtility.FontSize.XSMALL, LumoUtility.Margin.Top.XSMALL);
         
         // Progress bar for score with enhanced styling
@@ -433,11 +441,9 @@ public class MatchView extends VerticalLayout {
             }
             
             // Process the markdown-formatted explanation by sections
-            // Use a regex to split by ## headers while keeping the headers
-            String[] parts = explanation.split("(?=## )");
-            
-            for (String part : parts) {
-                if (part.trim().isEmpty()) continue;
+            for (Section section : splitSections(explanation)) {
+                String sectionTitle = section.title();
+                String sectionContent = section.content();
                 
                 // Create a section container
                 Div sectionDiv = new Div();
@@ -446,25 +452,6 @@ public class MatchView extends VerticalLayout {
                         LumoUtility.Margin.Bottom.SMALL,
                         LumoUtility.BorderRadius.SMALL);
                 
-                // Extract section title and content
-                String sectionTitle;
-                String sectionContent;
-                
-                if (part.startsWith("## ")) {
-                    int endOfTitleLine = part.indexOf('\n');
-                    if (endOfTitleLine > 0) {
-                        sectionTitle = part.substring(3, endOfTitleLine).trim();
-                        sectionContent = part.substring(endOfTitleLine + 1).trim();
-                    } else {
-                        sectionTitle = part.substring(3).trim();
-                        sectionContent = "";
-                    }
-                } else {
-                    // If there's no ## header, use a default title
-                    sectionTitle = "Analysis";
-                    sectionContent = part.trim();
-                }
-                
                 // Add section title
                 H4 titleElement = new H4(sectionTitle);
                 titleElement.addClassNames(
@@ -559,6 +546,39 @@ public class MatchView extends VerticalLayout {
         return fullAnalysisView;
     }
     
+    /**
+     * A titled section of a markdown-formatted explanation.
+     */
+    record Section(String title, String content) {
+    }
+    
+    /**
+     * Split a markdown-formatted explanation into its ## sections.
+     * Text before the first header becomes a section titled "Analysis".
+     */
+    static List<Section> splitSections(String explanation) {
+        List<Section> sections = new ArrayList<>();
+        
+        // Use a regex to split by ## headers while keeping the headers
+        for (String part : explanation.split("(?=## )")) {
+            if (part.trim().isEmpty()) continue;
+            
+            if (part.startsWith("## ")) {
+                int endOfTitleLine = part.indexOf('\n');
+                if (endOfTitleLine > 0) {
+                    sections.add(new Section(part.substring(3, endOfTitleLine).trim(),
+                            part.substring(endOfTitleLine + 1).trim()));
+                } else {
+                    sections.add(new Section(part.substring(3).trim(), ""));
+                }
+            } else {
+                // If there's no ## header, use a default title
+                sections.add(new Section("Analysis", part.trim()));
+            }
+        }
+        return sections;
+    }
+    
     /**
      * Gets an appropriate color for a section based on its title.
      */
@@ -655,39 +675,67 @@ public class MatchView extends VerticalLayout {
             return;
         }
         
+        UI ui = UI.getCurrent();
+        cancelPendingMatch();
+        
         try {
             // Show loading indicator
             progressBar.setVisible(true);
             matchButton.setEnabled(false);
             matchButton.setText("Finding matches...");
             
-            // Find matches
-            List<ResumeMatch> matches = resumeMatchingService.findMatchingResumes(jobDescription, 10);
-            
-            // Display results
-            showResults(matches);
-            
-            // Reset UI
-            progressBar.setVisible(false);
-            matchButton.setEnabled(true);
-            matchButton.setText("Find Matching Resumes");
+            // Find matches without blocking the UI; polling delivers the result to the browser
+            ui.setPollInterval(POLL_INTERVAL);
+            CompletableFuture<List<ResumeMatch>> match = resumeMatchingService.findMatchingResumesAsync(jobDescription, 10);
+            pendingMatch = match;
             
+            match.whenComplete((matches, ex) -> {
+                if (match.isCancelled()) {
+                    return; // The view was left or a new search started
+                }
+                ui.access(() -> {
+                    pendingMatch = null;
+                    resetMatchButton(ui);
+                    if (ex != null) {
+                        showMatchError(ex);
+                    } else {
+                        // Display results
+                        showResults(matches);
+                    }
+                });
+            });
         } catch (Exception e) {
-            // Reset UI
-            progressBar.setVisible(false);
-            matchButton.setEnabled(true);
-            matchButton.setText("Find Matching Resumes");
-            
-            // Show error notification
-            Notification notification = new Notification(
-                    "Error finding matches: " + e.getMessage(), 
-                    5000, 
-                    Notification.Position.MIDDLE
-            );
-            notification.addThemeVariants(NotificationVariant.LUMO_ERROR);
-            notification.open();
+            resetMatchButton(ui);
+            showMatchError(e);
         }
     }
+    
+    /**
+     * Cancel the running search, if any, so its queued and in-flight AI calls stop.
+     */
+    private void cancelPendingMatch() {
+        if (pendingMatch != null) {
+            pendingMatch.cancel(true);
+            pendingMatch = null;
+        }
+    }
+    
+    private void resetMatchButton(UI ui) {
+        ui.setPollInterval(-1);
+        progressBar.setVisible(false);
+        matchButton.setEnabled(true);
+        matchButton.setText("Find Matching Resumes");
+    }
+    
+    private void showMatchError(Throwable e) {
+        Notification notification = new Notification(
+                "Error finding matches: " + e.getMessage(), 
+                5000, 
+                Notification.Position.MIDDLE
+        );
+        notification.addThemeVariants(NotificationVariant.LUMO_ERROR);
+        notification.open();
+    }
 
     // Store current matches for sorting
     private List<ResumeMatch> currentMatches = new ArrayList<>();
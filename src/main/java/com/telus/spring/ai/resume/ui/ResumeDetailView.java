@@ -65,8 +65,8 @@ public class ResumeDetailView extends VerticalLayout implements HasUrlParameter<
                     event.getLocation().getQueryParameters()
                     .getParameters().get("from").contains("match");
             
-            // Load resume
-            Optional<Resume> optionalResume = resumeStorageService.getResumeById(resumeId);
+            // Load resume with its text for the raw and parsed tabs
+            Optional<Resume> optionalResume = resumeStorageService.getResumeWithContent(resumeId);
             
             if (optionalResume.isPresent()) {
                 resume = optionalResume.get();
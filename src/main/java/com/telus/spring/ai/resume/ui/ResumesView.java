@@ -1,11 +1,11 @@
 package com.telus.spring.ai.resume.ui;
 
-import com.telus.spring.ai.resume.model.Resume;
+import com.telus.spring.ai.resume.model.ResumeSearchHit;
+import com.telus.spring.ai.resume.model.ResumeSummary;
 import com.telus.spring.ai.resume.service.ResumeStorageService;
+import com.vaadin.flow.component.Text;
 import com.vaadin.flow.component.button.Button;
 import com.vaadin.flow.component.button.ButtonVariant;
-import com.vaadin.flow.component.grid.Grid;
-import com.vaadin.flow.component.grid.GridVariant;
 import com.vaadin.flow.component.html.Div;
 import com.vaadin.flow.component.html.H1;
 import com.vaadin.flow.component.html.H3;
@@ -18,18 +18,17 @@ import com.vaadin.flow.component.notification.NotificationVariant;
 import com.vaadin.flow.component.orderedlayout.FlexComponent;
 import com.vaadin.flow.component.orderedlayout.HorizontalLayout;
 import com.vaadin.flow.component.orderedlayout.VerticalLayout;
-import com.vaadin.flow.data.provider.CallbackDataProvider;
-import com.vaadin.flow.data.provider.DataProvider;
+import com.vaadin.flow.component.textfield.TextField;
+import com.vaadin.flow.data.value.ValueChangeMode;
 import com.vaadin.flow.router.PageTitle;
 import com.vaadin.flow.router.Route;
 import com.vaadin.flow.theme.lumo.LumoUtility;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
 
 import java.time.format.DateTimeFormatter;
+import java.util.List;
 import java.util.UUID;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 /**
  * The resumes view displays a list of all resumes in the system.
@@ -38,10 +37,17 @@ import java.util.UUID;
 @PageTitle("Resume AI - All Resumes")
 public class ResumesView extends VerticalLayout {
 
+    private static final int PAGE_SIZE = 20;
+
+    // Matched terms in the snippet of a search hit, as marked by ts_headline
+    private static final Pattern HIGHLIGHT = Pattern.compile("<mark>(.*?)</mark>", Pattern.DOTALL);
+
     private final ResumeStorageService resumeStorageService;
     
-    private Grid<Resume> grid;
     private Button refreshButton;
+    private Button loadMoreButton;
+    private TextField searchField;
+    private ResumeSummary lastLoaded;
 
     public ResumesView(ResumeStorageService resumeStorageService) {
         this.resumeStorageService = resumeStorageService;
@@ -100,6 +106,22 @@ public class ResumesView extends VerticalLayout {
         
         viewOptions.add(gridViewButton, cardViewButton);
         
+        // Keyword search over the resume text
+        searchField = new TextField();
+        searchField.setPlaceholder("Search by keyword, e.g. Kubernetes");
+        searchField.setPrefixComponent(new Icon(VaadinIcon.SEARCH));
+        searchField.setClearButtonVisible(true);
+        searchField.setValueChangeMode(ValueChangeMode.LAZY);
+        searchField.setWidth("320px");
+        searchField.addValueChangeListener(e -> {
+            if (e.getValue() == null || e.getValue().isBlank()) {
+                refreshGrid();
+            } else {
+                showSearchResults(e.getValue());
+            }
+        });
+        viewOptions.add(searchField);
+        
         // Right side of toolbar - actions
         HorizontalLayout actions = new HorizontalLayout();
         actions.setSpacing(true);
@@ -107,7 +129,10 @@ public class ResumesView extends VerticalLayout {
         // Refresh button
         refreshButton = new Button("Refresh", new Icon(VaadinIcon.REFRESH));
         refreshButton.addThemeVariants(ButtonVariant.LUMO_TERTIARY);
-        refreshButton.addClickListener(e -> refreshGrid());
+        refreshButton.addClickListener(e -> {
+            searchField.clear();
+            refreshGrid();
+        });
         
         // Upload button
         Button uploadButton = new Button("Upload New Resume", new Icon(VaadinIcon.UPLOAD));
@@ -139,7 +164,7 @@ public class ResumesView extends VerticalLayout {
     /**
      * Creates a card component for a resume.
      */
-    private HorizontalLayout createResumeCard(Resume resume) {
+    private HorizontalLayout createResumeCard(ResumeSummary resume) {
         // Main card container
         HorizontalLayout card = new HorizontalLayout();
         card.addClassNames(
@@ -279,7 +304,9 @@ public class ResumesView extends VerticalLayout {
                 LumoUtility.Padding.SMALL,
                 LumoUtility.Margin.Top.MEDIUM);
         
-        Paragraph contentPreview = new Paragraph(getContentPreview(resume.getFullText()));
+        Paragraph contentPreview = resume instanceof ResumeSearchHit
+                ? createHighlightedPreview(resume.getPreview())
+                : new Paragraph(getContentPreview(resume.getPreview()));
         contentPreview.addClassNames(
                 LumoUtility.TextColor.BODY,
                 LumoUtility.Margin.NONE,
@@ -397,48 +424,54 @@ public class ResumesView extends VerticalLayout {
     
     /**
      * Gets a preview of the resume content.
+     * The summary query returns one character more than is shown, so that
+     * longer text can be marked as truncated.
      */
-    private String getContentPreview(String fullText) {
-        if (fullText == null || fullText.isEmpty()) {
+    private String getContentPreview(String previewText) {
+        if (previewText == null || previewText.isEmpty()) {
             return "No content available";
         }
         
-        // Clean up the text
-        String cleanText = fullText.replaceAll("\\s+", " ").trim();
+        boolean truncated = previewText.length() > 200;
+        String text = truncated ? previewText.substring(0, 200) : previewText;
         
-        // Return a preview (first 200 characters)
-        int previewLength = Math.min(cleanText.length(), 200);
-        String preview = cleanText.substring(0, previewLength);
+        // Clean up the text
+        String cleanText = text.replaceAll("\\s+", " ").trim();
         
-        return preview + (cleanText.length() > previewLength ? "..." : "");
+        return cleanText + (truncated ? "..." : "");
     }
 
-    private DataProvider<Resume, Void> createDataProvider() {
-        return new CallbackDataProvider<>(
-                query -> {
-                    // Create pageable
-                    int offset = query.getOffset();
-                    int limit = query.getLimit();
-                    int page = offset / limit;
-                    
-                    // Get sort info
-                    Sort sort = Sort.by(Sort.Direction.DESC, "uploadedAt");
-                    
-                    // Create pageable
-                    Pageable pageable = PageRequest.of(page, limit, sort);
-                    
-                    // Get data
-                    Page<Resume> resumePage = resumeStorageService.getAllResumes(pageable);
-                    
-                    return resumePage.getContent().stream();
-                },
-                query -> {
-                    // Get total count
-                    Pageable pageable = PageRequest.of(0, 1);
-                    Page<Resume> resumePage = resumeStorageService.getAllResumes(pageable);
-                    return (int) resumePage.getTotalElements();
-                }
-        );
+    /**
+     * Builds the preview of a search hit, rendering the terms marked by ts_headline as
+     * highlighted spans. The snippet is added as text nodes, never as HTML.
+     */
+    private Paragraph createHighlightedPreview(String headline) {
+        Paragraph preview = new Paragraph();
+        if (headline == null || headline.isEmpty()) {
+            preview.setText("No content available");
+            return preview;
+        }
+        
+        String cleanText = headline.replaceAll("\\s+", " ").trim();
+        Matcher matcher = HIGHLIGHT.matcher(cleanText);
+        int end = 0;
+        while (matcher.find()) {
+            if (matcher.start() > end) {
+                preview.add(new Text(cleanText.substring(end, matcher.start())));
+            }
+            Span term = new Span(matcher.group(1));
+            term.addClassNames(
+                    "search-highlight",
+                    LumoUtility.Background.PRIMARY_10,
+                    LumoUtility.TextColor.PRIMARY,
+                    LumoUtility.FontWeight.SEMIBOLD);
+            preview.add(term);
+            end = matcher.end();
+        }
+        if (end < cleanText.length()) {
+            preview.add(new Text(cleanText.substring(end)));
+        }
+        return preview;
     }
 
     private void refreshGrid() {
@@ -449,14 +482,9 @@ public class ResumesView extends VerticalLayout {
                 VerticalLayout cardsContainer = (VerticalLayout) gridSection.getComponentAt(1);
                 cardsContainer.removeAll();
                 
-                // Get data from the service
-                Pageable pageable = PageRequest.of(0, 20, Sort.by(Sort.Direction.DESC, "uploadedAt"));
-                Page<Resume> resumePage = resumeStorageService.getAllResumes(pageable);
-                
-                // Add cards for each resume
-                for (Resume resume : resumePage.getContent()) {
-                    cardsContainer.add(createResumeCard(resume));
-                }
+                // Start again from the newest resume
+                lastLoaded = null;
+                loadNextPage(cardsContainer);
             } else {
                 // Log error or handle the case where the component structure is not as expected
                 System.err.println("Component structure is not as expected in ResumesView");
@@ -468,6 +496,75 @@ public class ResumesView extends VerticalLayout {
         }
     }
 
+    /**
+     * Replaces the cards with the resumes matching a keyword search.
+     */
+    private void showSearchResults(String query) {
+        try {
+            VerticalLayout gridSection = (VerticalLayout) getComponentAt(1);
+            VerticalLayout cardsContainer = (VerticalLayout) gridSection.getComponentAt(1);
+            cardsContainer.removeAll();
+            loadMoreButton = null;
+            
+            List<ResumeSearchHit> hits = resumeStorageService.searchResumes(query, PAGE_SIZE);
+            
+            if (hits.isEmpty()) {
+                Paragraph noResults = new Paragraph("No resumes match \"" + query + "\"");
+                noResults.addClassNames(LumoUtility.TextColor.SECONDARY);
+                cardsContainer.add(noResults);
+                return;
+            }
+            
+            // The preview of a search hit is the snippet with the matched terms highlighted
+            for (ResumeSearchHit hit : hits) {
+                cardsContainer.add(createResumeCard(hit));
+            }
+        } catch (Exception e) {
+            Notification notification = new Notification(
+                    "Error searching resumes: " + e.getMessage(), 
+                    5000, 
+                    Notification.Position.MIDDLE
+            );
+            notification.addThemeVariants(NotificationVariant.LUMO_ERROR);
+            notification.open();
+        }
+    }
+
+    /**
+     * Loads the next page of resume summaries using keyset pagination and
+     * appends them to the cards container, followed by a "Load More" button
+     * when more resumes may be available.
+     */
+    private void loadNextPage(VerticalLayout cardsContainer) {
+        if (loadMoreButton != null) {
+            cardsContainer.remove(loadMoreButton);
+        }
+        
+        // Get data from the service, seeking past the last loaded resume
+        List<ResumeSummary> summaries = lastLoaded == null
+                ? resumeStorageService.getResumeSummaries(null, null, PAGE_SIZE)
+                : resumeStorageService.getResumeSummaries(lastLoaded.getUploadedAt(), lastLoaded.getId(), PAGE_SIZE);
+        
+        // Add cards for each resume
+        for (ResumeSummary summary : summaries) {
+            cardsContainer.add(createResumeCard(summary));
+        }
+        
+        if (!summaries.isEmpty()) {
+            lastLoaded = summaries.get(summaries.size() - 1);
+        }
+        
+        if (summaries.size() == PAGE_SIZE) {
+            loadMoreButton = new Button("Load More", new Icon(VaadinIcon.ANGLE_DOWN));
+            loadMoreButton.addThemeVariants(ButtonVariant.LUMO_TERTIARY);
+            loadMoreButton.addClickListener(e -> loadNextPage(cardsContainer));
+            cardsContainer.add(loadMoreButton);
+            cardsContainer.setHorizontalComponentAlignment(Alignment.CENTER, loadMoreButton);
+        } else {
+            loadMoreButton = null;
+        }
+    }
+
     private void viewResume(UUID id) {
         getUI().ifPresent(ui -> ui.navigate("resume/" + id));
     }
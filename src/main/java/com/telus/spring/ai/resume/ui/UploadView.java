@@ -22,29 +22,36 @@ import com.vaadin.flow.component.orderedlayout.HorizontalLayout;
 import com.vaadin.flow.component.orderedlayout.VerticalLayout;
 import com.vaadin.flow.component.progressbar.ProgressBar;
 import com.vaadin.flow.component.upload.Upload;
-import com.vaadin.flow.component.upload.receivers.MemoryBuffer;
+import com.vaadin.flow.component.upload.receivers.MultiFileMemoryBuffer;
 import com.vaadin.flow.router.PageTitle;
 import com.vaadin.flow.router.Route;
 import com.vaadin.flow.theme.lumo.LumoUtility;
 
-import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 /**
  * The upload view allows users to upload resumes.
+ * Several files can be uploaded at once; they are parsed in parallel and stored together
+ * once every file of the upload has been received.
  */
 @Route(value = "upload", layout = MainLayout.class)
 @PageTitle("Resume AI - Upload Resume")
 public class UploadView extends VerticalLayout {
 
+    private static final int MAX_FILES = 20;
+
     private final ResumeParserService parserService;
     private final ResumeStorageService storageService;
     
     private Upload upload;
-    private MemoryBuffer buffer;
+    private MultiFileMemoryBuffer buffer;
     private ProgressBar progressBar;
     private VerticalLayout resultLayout;
-    private String originalFileName;
+    private final List<UploadedFile> uploadedFiles = new ArrayList<>();
 
     public UploadView(ResumeParserService parserService, ResumeStorageService storageService) {
         this.parserService = parserService;
@@ -68,7 +75,7 @@ public class UploadView extends VerticalLayout {
         title.addClassNames(LumoUtility.TextAlignment.CENTER);
         
         Paragraph description = new Paragraph(
-                "Upload a resume in PDF or DOCX format to extract information and add it to the system.");
+                "Upload resumes in PDF or DOCX format to extract information and add them to the system.");
         description.addClassNames(LumoUtility.TextAlignment.CENTER);
         
         section.add(title, description);
@@ -85,67 +92,34 @@ public class UploadView extends VerticalLayout {
         section.setWidthFull();
         section.setMaxWidth("800px");
         
-        H3 sectionTitle = new H3("Upload File");
+        H3 sectionTitle = new H3("Upload Files");
         
         // Create upload component
-        buffer = new MemoryBuffer();
+        buffer = new MultiFileMemoryBuffer();
         upload = new Upload(buffer);
         upload.setAcceptedFileTypes("application/pdf", "application/vnd.openxmlformats-officedocument.wordprocessingml.document");
-        upload.setMaxFiles(1);
+        upload.setMaxFiles(MAX_FILES);
         upload.setDropAllowed(true);
         upload.setWidthFull();
         
         // Add upload start listener
         upload.addStartedListener(event -> {
-            originalFileName = event.getFileName();
             progressBar.setVisible(true);
             resultLayout.setVisible(false);
         });
         
-        // Add upload success listener
-        upload.addSucceededListener(event -> {
-            try {
-                // Get uploaded file
-                InputStream inputStream = buffer.getInputStream();
-                String mimeType = event.getMIMEType();
-                
-                // Create a MultipartFile from the InputStream
-                MultipartFile file = new MockMultipartFile(
-                        originalFileName,
-                        originalFileName,
-                        mimeType,
-                        inputStream);
-                
-                // Parse resume
-                ResumeParseResult parseResult = parserService.parseResume(file);
-                
-                // Store resume
-              //  Resume resume = storageService.storeResume(parseResult, file);
-                
-                // Show result
-                //showResult(resume);
-                
-                // Show success notification
-                Notification notification = new Notification(
-                        "Resume uploaded and parsed successfully", 
-                        3000, 
-                        Notification.Position.MIDDLE
-                );
-                notification.addThemeVariants(NotificationVariant.LUMO_SUCCESS);
-                notification.open();
-                
-            } catch (Exception e) {
-                // Show error notification
-                Notification notification = new Notification(
-                        "Error processing resume: " + e.getMessage(), 
-                        5000, 
-                        Notification.Position.MIDDLE
-                );
-                notification.addThemeVariants(NotificationVariant.LUMO_ERROR);
-                notification.open();
-            } finally {
-                progressBar.setVisible(false);
+        // Remember each received file; they are processed together when the upload finishes
+        upload.addSucceededListener(event ->
+                uploadedFiles.add(new UploadedFile(event.getFileName(), event.getMIMEType())));
+        
+        // Parse and store every file of the upload at once
+        upload.addAllFinishedListener(event -> {
+            List<UploadedFile> files = new ArrayList<>(uploadedFiles);
+            uploadedFiles.clear();
+            if (!files.isEmpty()) {
+                processFiles(files);
             }
+            progressBar.setVisible(false);
         });
         
         // Add upload fail listener
@@ -171,6 +145,74 @@ public class UploadView extends VerticalLayout {
         return section;
     }
 
+    private void processFiles(List<UploadedFile> uploaded) {
+        try {
+            // Create MultipartFiles from the buffered uploads
+            List<MultipartFile> files = new ArrayList<>();
+            for (UploadedFile file : uploaded) {
+                files.add(new MockMultipartFile(
+                        file.name(),
+                        file.name(),
+                        file.mimeType(),
+                        buffer.getInputStream(file.name())));
+            }
+            
+            // Parse resumes in parallel, keeping the files that could be parsed
+            List<CompletableFuture<ResumeParseResult>> parses = parserService.parseResumesInParallel(files);
+            List<ResumeParseResult> parseResults = new ArrayList<>();
+            List<MultipartFile> parsedFiles = new ArrayList<>();
+            List<String> failed = new ArrayList<>();
+            for (int i = 0; i < files.size(); i++) {
+                try {
+                    parseResults.add(parses.get(i).join());
+                    parsedFiles.add(files.get(i));
+                } catch (CompletionException e) {
+                    failed.add(files.get(i).getOriginalFilename());
+                }
+            }
+            
+            // Store resumes
+            List<Resume> resumes = parseResults.isEmpty()
+                    ? List.of()
+                    : storageService.storeResumes(parseResults, parsedFiles);
+            
+            // Show result
+            if (resumes.size() == 1 && failed.isEmpty()) {
+                showResult(resumes.get(0));
+            } else {
+                showResults(resumes, failed);
+            }
+            
+            if (failed.isEmpty()) {
+                Notification notification = new Notification(
+                        resumes.size() + " resume(s) uploaded and parsed successfully", 
+                        3000, 
+                        Notification.Position.MIDDLE
+                );
+                notification.addThemeVariants(NotificationVariant.LUMO_SUCCESS);
+                notification.open();
+            } else {
+                Notification notification = new Notification(
+                        "Could not process: " + String.join(", ", failed), 
+                        5000, 
+                        Notification.Position.MIDDLE
+                );
+                notification.addThemeVariants(NotificationVariant.LUMO_ERROR);
+                notification.open();
+            }
+            
+        } catch (Exception e) {
+            // Show error notification
+            Notification notification = new Notification(
+                    "Error processing resumes: " + e.getMessage(), 
+                    5000, 
+                    Notification.Position.MIDDLE
+            );
+            notification.addThemeVariants(NotificationVariant.LUMO_ERROR);
+            notification.open();
+        }
+    }
+
     private VerticalLayout createResultSection() {
         resultLayout = new VerticalLayout();
         resultLayout.addClassNames(
@@ -276,7 +318,64 @@ public class UploadView extends VerticalLayout {
         resultLayout.setVisible(true);
     }
 
+    private void showResults(List<Resume> resumes, List<String> failed) {
+        resultLayout.removeAll();
+        
+        H3 sectionTitle = new H3(resumes.size() + " Resume(s) Stored");
+        
+        VerticalLayout resultInfo = new VerticalLayout();
+        resultInfo.setPadding(false);
+        resultInfo.setSpacing(true);
+        
+        for (Resume resume : resumes) {
+            HorizontalLayout row = new HorizontalLayout();
+            row.setWidthFull();
+            row.setAlignItems(Alignment.CENTER);
+            
+            Paragraph nameValue = new Paragraph(resume.getName());
+            nameValue.getStyle().set("font-weight", "bold");
+            nameValue.setWidth("200px");
+            
+            Paragraph fileValue = new Paragraph(resume.getOriginalFileName());
+            
+            Button viewButton = new Button("View", new Icon(VaadinIcon.EYE));
+            viewButton.addClickListener(e -> viewResume(resume.getId()));
+            
+            row.add(nameValue, fileValue, viewButton);
+            row.expand(fileValue);
+            resultInfo.add(row);
+        }
+        
+        for (String fileName : failed) {
+            Span failedValue = new Span("Could not be processed: " + fileName);
+            failedValue.getStyle().set("color", "var(--lumo-error-text-color)");
+            resultInfo.add(failedValue);
+        }
+        
+        HorizontalLayout actions = new HorizontalLayout();
+        actions.setWidthFull();
+        actions.setJustifyContentMode(JustifyContentMode.CENTER);
+        actions.setSpacing(true);
+        actions.setPadding(true);
+        
+        Button viewAllButton = new Button("View All Resumes", new Icon(VaadinIcon.LIST));
+        viewAllButton.addThemeVariants(ButtonVariant.LUMO_PRIMARY);
+        viewAllButton.addClickListener(e -> getUI().ifPresent(ui -> ui.navigate("resumes")));
+        
+        actions.add(viewAllButton);
+        
+        resultLayout.add(sectionTitle, resultInfo, actions);
+        resultLayout.setAlignItems(Alignment.CENTER);
+        resultLayout.setVisible(true);
+    }
+
     private void viewResume(UUID id) {
         getUI().ifPresent(ui -> ui.navigate("resume/" + id));
     }
+
+    /**
+     * A file received by the upload, read back from the buffer by name.
+     */
+    private record UploadedFile(String name, String mimeType) {
+    }
 }
@@ -17,7 +17,6 @@ CREATE TABLE IF NOT EXISTS resumes (
     name VARCHAR(255) NOT NULL,
     email VARCHAR(255) NOT NULL,
     phone_number VARCHAR(50) NOT NULL,
-    full_text TEXT,
     uploaded_at TIMESTAMP NOT NULL,
     updated_at TIMESTAMP NOT NULL,
     file_type VARCHAR(10) NOT NULL,
@@ -25,14 +24,111 @@ CREATE TABLE IF NOT EXISTS resumes (
     CONSTRAINT unique_resume UNIQUE (name, email, phone_number)
 );
 
+-- Full resume text, kept out of the resumes table so listings and lookups don't load it
+CREATE TABLE IF NOT EXISTS resume_content (
+    resume_id uuid PRIMARY KEY REFERENCES resumes(id) ON DELETE CASCADE,
+    full_text TEXT
+);
+
+-- Move the text of databases created before resume_content existed
+DO '
+BEGIN
+    IF EXISTS (SELECT 1 FROM information_schema.columns
+               WHERE table_name = ''resumes'' AND column_name = ''full_text'') THEN
+        INSERT INTO resume_content (resume_id, full_text)
+        SELECT id, full_text FROM resumes
+        ON CONFLICT (resume_id) DO NOTHING;
+        ALTER TABLE resumes DROP COLUMN full_text;
+    END IF;
+END
+';
+
+-- Keyword search over the resume text; 'simple' keeps terms such as certification IDs unstemmed
+ALTER TABLE resume_content ADD COLUMN IF NOT EXISTS search_vector tsvector
+    GENERATED ALWAYS AS (to_tsvector('simple', coalesce(full_text, ''))) STORED;
+CREATE INDEX IF NOT EXISTS idx_resume_content_search ON resume_content USING GIN (search_vector);
+
+-- Supports keyset pagination of resume listings ordered by (uploaded_at, id)
+CREATE INDEX IF NOT EXISTS idx_resumes_uploaded_at_id ON resumes (uploaded_at DESC, id DESC);
+
 -- Resume vector store table (separate from the main vector_store)
 CREATE TABLE IF NOT EXISTS resume_vector_store (
     id uuid DEFAULT uuid_generate_v4() PRIMARY KEY,
     resume_id uuid NOT NULL REFERENCES resumes(id) ON DELETE CASCADE,
-    content text,
     metadata json,
     embedding vector(1536),
     CONSTRAINT unique_resume_id UNIQUE (resume_id)
 );
 
+-- Hash of the embedded text, used to skip re-embedding unchanged resumes on upsert
+ALTER TABLE resume_vector_store ADD COLUMN IF NOT EXISTS content_hash VARCHAR(64);
+
+-- The resume text lives in resume_content; drop the copy kept by older databases
+ALTER TABLE resume_vector_store DROP COLUMN IF EXISTS content;
+
 -- Index creation is now handled by the application code to avoid issues with existing indexes
+
+-- Outbox of resume changes, written in the same transaction as the resume itself
+-- and drained by the background worker that keeps resume_vector_store up to date
+CREATE TABLE IF NOT EXISTS resume_changes (
+    id BIGSERIAL PRIMARY KEY,
+    resume_id uuid NOT NULL,
+    change_type VARCHAR(10) NOT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT now()
+);
+
+-- Delivery state: a worker claims rows by setting claimed_until, failed rows are retried
+-- after next_attempt_at and parked (kept for inspection, never retried) after too many attempts
+ALTER TABLE resume_changes ADD COLUMN IF NOT EXISTS attempts INT NOT NULL DEFAULT 0;
+ALTER TABLE resume_changes ADD COLUMN IF NOT EXISTS last_error TEXT;
+ALTER TABLE resume_changes ADD COLUMN IF NOT EXISTS next_attempt_at TIMESTAMP NOT NULL DEFAULT now();
+ALTER TABLE resume_changes ADD COLUMN IF NOT EXISTS claimed_until TIMESTAMP;
+ALTER TABLE resume_changes ADD COLUMN IF NOT EXISTS parked_at TIMESTAMP;
+CREATE INDEX IF NOT EXISTS idx_resume_changes_pending ON resume_changes (id) WHERE parked_at IS NULL;
+
+-- Notify listeners on the resume_changes channel whenever a resume is written.
+-- NOTIFY is transactional, so the worker is only woken once the change is committed.
+-- The function body is single-quoted (not dollar-quoted) so the script splitter keeps it intact.
+CREATE OR REPLACE FUNCTION notify_resume_change() RETURNS trigger AS '
+BEGIN
+    PERFORM pg_notify(''resume_changes'', COALESCE(NEW.id, OLD.id)::text);
+    RETURN NULL;
+END;
+' LANGUAGE plpgsql;
+
+DROP TRIGGER IF EXISTS resume_change_notify ON resumes;
+CREATE TRIGGER resume_change_notify
+    AFTER INSERT OR UPDATE OR DELETE ON resumes
+    FOR EACH ROW EXECUTE FUNCTION notify_resume_change();
+
+-- Asynchronous match jobs and their ranked results
+CREATE TABLE IF NOT EXISTS match_jobs (
+    id uuid PRIMARY KEY,
+    job_description TEXT NOT NULL,
+    result_limit INT NOT NULL,
+    retrieval_mode VARCHAR(10) NOT NULL,
+    keywords TEXT,
+    status VARCHAR(10) NOT NULL,
+    total INT,
+    completed INT NOT NULL DEFAULT 0,
+    error TEXT,
+    created_at TIMESTAMP NOT NULL,
+    finished_at TIMESTAMP
+);
+
+-- Time of the last progress of a queued or running job; jobs that stop progressing
+-- (e.g. their instance restarted) are failed by the cleanup, finished jobs expire
+ALTER TABLE match_jobs ADD COLUMN IF NOT EXISTS updated_at TIMESTAMP;
+CREATE INDEX IF NOT EXISTS idx_match_jobs_unfinished ON match_jobs (status) WHERE finished_at IS NULL;
+CREATE INDEX IF NOT EXISTS idx_match_jobs_finished_at ON match_jobs (finished_at);
+
+CREATE TABLE IF NOT EXISTS match_results (
+    job_id uuid NOT NULL REFERENCES match_jobs(id) ON DELETE CASCADE,
+    rank INT NOT NULL,
+    resume_id uuid NOT NULL REFERENCES resumes(id) ON DELETE CASCADE,
+    score INT,
+    similarity DOUBLE PRECISION,
+    estimated BOOLEAN NOT NULL DEFAULT false,
+    explanation TEXT,
+    PRIMARY KEY (job_id, rank)
+);
@@ -0,0 +1,161 @@
+package com.telus.spring.ai.resume.service.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+class BoundedParallelTest {
+
+    @Test
+    void neverRunsMoreThanParallelismTasks() throws Exception {
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+        List<Integer> items = IntStream.range(0, 200).boxed().toList();
+
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+        try {
+            List<CompletableFuture<Integer>> results = BoundedParallel.start(items, 4,
+                    item -> CompletableFuture.supplyAsync(() -> {
+                        maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                        try {
+                            Thread.sleep(ThreadLocalRandom.current().nextInt(3));
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                        }
+                        inFlight.decrementAndGet();
+                        return item * 2;
+                    }, executor));
+
+            for (int i = 0; i < items.size(); i++) {
+                assertEquals(i * 2, (int) results.get(i).get(10, TimeUnit.SECONDS));
+            }
+            assertTrue(maxInFlight.get() <= 4, "max in flight was " + maxInFlight.get());
+            assertEquals(4, maxInFlight.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void runsFasterThanSequentialWithinTheParallelism() throws Exception {
+        int items = 40;
+        int parallelism = 8;
+        long latencyMs = 100;
+
+        // Each task stands in for a call that waits latencyMs for a remote response
+        long start = System.nanoTime();
+        List<CompletableFuture<Integer>> results = BoundedParallel.start(
+                IntStream.range(0, items).boxed().toList(), parallelism,
+                item -> CompletableFuture.supplyAsync(() -> item,
+                        CompletableFuture.delayedExecutor(latencyMs, TimeUnit.MILLISECONDS)));
+        for (CompletableFuture<Integer> result : results) {
+            result.get(10, TimeUnit.SECONDS);
+        }
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        long sequentialMs = items * latencyMs;
+        long waves = (items + parallelism - 1) / parallelism;
+        // Ideally waves * latencyMs (500 ms) against 4000 ms sequentially; leave room for slow machines
+        assertTrue(elapsedMs < sequentialMs / 3,
+                "took " + elapsedMs + " ms, sequential would take " + sequentialMs + " ms");
+        // No faster than the parallelism allows
+        assertTrue(elapsedMs >= waves * latencyMs,
+                "took " + elapsedMs + " ms, less than " + waves + " rounds of " + latencyMs + " ms");
+    }
+
+    @Test
+    void resultsFollowItemOrderWhateverTheCompletionOrder() throws Exception {
+        List<CompletableFuture<String>> tasks = new ArrayList<>();
+        List<CompletableFuture<String>> results = BoundedParallel.start(List.of("a", "b", "c"), 3, item -> {
+            CompletableFuture<String> future = new CompletableFuture<>();
+            tasks.add(future);
+            return future;
+        });
+
+        tasks.get(2).complete("C");
+        tasks.get(0).complete("A");
+        tasks.get(1).complete("B");
+
+        assertEquals("A", results.get(0).get(5, TimeUnit.SECONDS));
+        assertEquals("B", results.get(1).get(5, TimeUnit.SECONDS));
+        assertEquals("C", results.get(2).get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void aFailedTaskFailsItsResultAndFreesItsSlot() throws Exception {
+        IllegalStateException failure = new IllegalStateException("boom");
+        List<CompletableFuture<Integer>> results = BoundedParallel.start(List.of(1, 2, 3), 1, item -> {
+            if (item == 2) {
+                throw failure;
+            }
+            return CompletableFuture.completedFuture(item);
+        });
+
+        assertEquals(1, (int) results.get(0).get(5, TimeUnit.SECONDS));
+        ExecutionException thrown = assertThrows(ExecutionException.class, () -> results.get(1).get(5, TimeUnit.SECONDS));
+        assertSame(failure, thrown.getCause());
+        assertEquals(3, (int) results.get(2).get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void cancellingSkipsUnstartedItemsAndCancelsRunningTasks() throws Exception {
+        List<CompletableFuture<Integer>> tasks = new ArrayList<>();
+        List<Integer> started = new ArrayList<>();
+        List<CompletableFuture<Integer>> results = BoundedParallel.start(List.of(0, 1, 2), 1, item -> {
+            started.add(item);
+            CompletableFuture<Integer> future = new CompletableFuture<>();
+            tasks.add(future);
+            return future;
+        });
+
+        // Item 1 has not started yet: cancelling it means it is never started
+        results.get(1).cancel(true);
+        // Item 0 is running: cancelling it cancels its task and frees the slot for item 2
+        results.get(0).cancel(true);
+
+        assertTrue(tasks.get(0).isCancelled());
+        assertEquals(List.of(0, 2), started);
+        assertThrows(CancellationException.class, () -> results.get(1).join());
+
+        tasks.get(1).complete(20);
+        assertEquals(20, (int) results.get(2).get(5, TimeUnit.SECONDS));
+        assertFalse(results.get(2).isCancelled());
+    }
+
+    @Test
+    void synchronouslyCompletedTasksRunInConstantStackDepth() throws Exception {
+        int items = 100_000;
+        AtomicInteger minDepth = new AtomicInteger(Integer.MAX_VALUE);
+        AtomicInteger maxDepth = new AtomicInteger();
+
+        List<CompletableFuture<Integer>> results = BoundedParallel.start(
+                IntStream.range(0, items).boxed().toList(), 1, item -> {
+                    if (item % 1000 == 0) {
+                        int depth = Thread.currentThread().getStackTrace().length;
+                        minDepth.accumulateAndGet(depth, Math::min);
+                        maxDepth.accumulateAndGet(depth, Math::max);
+                    }
+                    return CompletableFuture.completedFuture(item);
+                });
+
+        assertEquals(items - 1, (int) results.get(items - 1).get(30, TimeUnit.SECONDS));
+        assertTrue(maxDepth.get() - minDepth.get() <= 10,
+                "stack depth grew from " + minDepth.get() + " to " + maxDepth.get());
+    }
+}
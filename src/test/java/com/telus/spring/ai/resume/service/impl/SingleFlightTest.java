@@ -0,0 +1,119 @@
+package com.telus.spring.ai.resume.service.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Test;
+
+class SingleFlightTest {
+
+    @Test
+    void concurrentCallersShareOneComputation() throws Exception {
+        SingleFlight<String, List<String>> flights = new SingleFlight<>(ArrayList::new);
+        CompletableFuture<List<String>> computation = new CompletableFuture<>();
+        AtomicInteger started = new AtomicInteger();
+        CountDownLatch ready = new CountDownLatch(1);
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<CompletableFuture<List<String>>>> callers = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                callers.add(executor.submit(() -> {
+                    ready.await();
+                    return flights.join("key", () -> {
+                        started.incrementAndGet();
+                        return computation;
+                    });
+                }));
+            }
+            ready.countDown();
+            List<CompletableFuture<List<String>>> results = new ArrayList<>();
+            for (Future<CompletableFuture<List<String>>> caller : callers) {
+                results.add(caller.get(5, TimeUnit.SECONDS));
+            }
+
+            computation.complete(List.of("a", "b"));
+
+            assertEquals(1, started.get());
+            for (CompletableFuture<List<String>> result : results) {
+                assertEquals(List.of("a", "b"), result.get(5, TimeUnit.SECONDS));
+            }
+            // Every caller gets its own copy
+            assertNotSame(results.get(0).get(), results.get(1).get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void computationIsCancelledOnlyWhenEveryCallerCancels() {
+        SingleFlight<String, String> flights = new SingleFlight<>();
+        CompletableFuture<String> computation = new CompletableFuture<>();
+
+        CompletableFuture<String> first = flights.join("key", () -> computation);
+        CompletableFuture<String> second = flights.join("key", () -> fail("second computation started"));
+
+        first.cancel(true);
+        assertFalse(computation.isCancelled());
+
+        second.cancel(true);
+        assertTrue(computation.isCancelled());
+    }
+
+    @Test
+    void callersJoinedWhileStartingFailWhenTheStartThrows() throws Exception {
+        SingleFlight<String, String> flights = new SingleFlight<>();
+        RejectedExecutionException rejected = new RejectedExecutionException("saturated");
+        AtomicReference<CompletableFuture<String>> joined = new AtomicReference<>();
+
+        // A second caller arrives while the first one is still starting the computation
+        RejectedExecutionException thrown = assertThrows(RejectedExecutionException.class, () ->
+                flights.join("key", () -> {
+                    joined.set(flights.join("key", () -> fail("second computation started")));
+                    throw rejected;
+                }));
+
+        assertSame(rejected, thrown);
+        ExecutionException failure = assertThrows(ExecutionException.class,
+                () -> joined.get().get(5, TimeUnit.SECONDS));
+        assertSame(rejected, failure.getCause());
+
+        // The failed flight is gone: the next caller starts a new computation
+        CompletableFuture<String> retry = flights.join("key", () -> CompletableFuture.completedFuture("ok"));
+        assertEquals("ok", retry.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void cancellingWhileStartingLeavesTheComputationToTheRemainingCaller() {
+        SingleFlight<String, String> flights = new SingleFlight<>();
+        CompletableFuture<String> computation = new CompletableFuture<>();
+
+        // A second caller joins and cancels before the computation has been assigned
+        CompletableFuture<String> first = flights.join("key", () -> {
+            flights.join("key", () -> fail("second computation started")).cancel(true);
+            return computation;
+        });
+
+        assertFalse(computation.isCancelled());
+        first.cancel(true);
+        assertTrue(computation.isCancelled());
+    }
+}